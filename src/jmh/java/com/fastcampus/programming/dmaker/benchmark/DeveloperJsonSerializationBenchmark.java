@@ -0,0 +1,50 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /developers 응답(List<DeveloperDto>) 직렬화 비용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeveloperJsonSerializationBenchmark {
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<DeveloperDto> developers;
+
+    @Setup
+    public void setUp() {
+        // spring boot가 만드는 ObjectMapper와 같은 설정
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        developers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            developers.add(DeveloperDto.builder()
+                    .developerLevel(DeveloperLevel.values()[i % DeveloperLevel.values().length])
+                    .developerSkillType(
+                            DeveloperSkillType.values()[i % DeveloperSkillType.values().length])
+                    .memberId("memberId" + i)
+                    .id((long) i)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeDeveloperList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(developers);
+    }
+}
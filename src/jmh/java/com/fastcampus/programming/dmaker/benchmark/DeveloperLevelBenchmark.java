@@ -0,0 +1,53 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeveloperLevelBenchmark {
+    @Param({"NEW", "JUNIOR", "JUNGNIOR", "SENIOR"})
+    private DeveloperLevel developerLevel;
+
+    private int experienceYears;
+
+    @Setup
+    public void setUp() {
+        switch (developerLevel) {
+            case NEW:
+                experienceYears = 0;
+                break;
+            case JUNIOR:
+                experienceYears = 3;
+                break;
+            case JUNGNIOR:
+                experienceYears = 7;
+                break;
+            default:
+                experienceYears = 15;
+        }
+    }
+
+    @Benchmark
+    public void validateExperienceYears() {
+        developerLevel.validateExperienceYears(experienceYears);
+    }
+
+    // 실패하는 경우: DMakerException 생성 비용 (stack trace 없음)
+    @Benchmark
+    public DMakerException rejectExperienceYears() {
+        try {
+            developerLevel.validateExperienceYears(-1);
+            return null;
+        } catch (DMakerException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// GET /developers 응답(List<DeveloperDto>) 형식 별 직렬화 비용과 크기
+// - json : 지금 기본 응답
+// - cbor : Accept: application/cbor (MessageConverterConfig, enum = ordinal)
+// gzip=true 는 server.compression 이 응답을 압축하는 비용까지 포함한다.
+// 응답 크기(bytes)는 setup 에서 한 번 출력한다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeveloperResponseFormatBenchmark {
+    @Param({"100", "10000"})
+    private int size;
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ObjectMapper objectMapper;
+    private List<DeveloperDto> developers;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = format.equals("cbor")
+                ? Jackson2ObjectMapperBuilder.cbor()
+                .featuresToEnable(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+                .build()
+                : Jackson2ObjectMapperBuilder.json().build();
+
+        developers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            developers.add(DeveloperDto.builder()
+                    .developerLevel(DeveloperLevel.values()[i % DeveloperLevel.values().length])
+                    .developerSkillType(
+                            DeveloperSkillType.values()[i % DeveloperSkillType.values().length])
+                    .memberId("memberId" + i)
+                    .id((long) i)
+                    .build());
+        }
+
+        System.out.printf("%n[%s, gzip=%s, size=%d] %d bytes%n", format, gzip, size, serialize().length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream outputStream = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            objectMapper.writeValue(outputStream, developers);
+        }
+
+        return bytes.toByteArray();
+    }
+}
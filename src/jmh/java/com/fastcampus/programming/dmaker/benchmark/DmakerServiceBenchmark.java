@@ -0,0 +1,117 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.DmakerApplication;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.service.DeveloperBulkService;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+
+// embedded H2에 rows 건을 미리 넣어두고 DmakerService를 호출한다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DmakerServiceBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private DmakerService dmakerService;
+    private final AtomicLong createSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // application.yml 보다 우선하도록 command line 인자로 넘긴다.
+        context = new SpringApplicationBuilder(DmakerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + rows,
+                        "--logging.level.root=WARN"
+                );
+        dmakerService = context.getBean(DmakerService.class);
+        context.getBean(DeveloperBulkService.class).createDevelopers(new SeedRequests(rows));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DeveloperDetailDto getDeveloperDetail() {
+        return dmakerService.getDeveloperDetail(
+                "seed" + ThreadLocalRandom.current().nextInt(rows));
+    }
+
+    @Benchmark
+    public CreateDeveloper.Response createDeveloper() {
+        return dmakerService.createDeveloper(
+                createRequest("created" + createSequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public DeveloperPageDto getEmployedDevelopersPage() {
+        String cursor = DeveloperPageDto.encodeCursor(
+                (long) ThreadLocalRandom.current().nextInt(Math.max(1, rows - PAGE_SIZE)));
+        return dmakerService.getEmployedDevelopers(cursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<DeveloperDto> getAllEmployedDevelopers() {
+        return dmakerService.getAllEmployedDevelopers();
+    }
+
+    private static CreateDeveloper.Request createRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(32)
+                .build();
+    }
+
+    // 1M 건을 한 번에 리스트로 만들지 않도록 요청을 하나씩 만들어 넘긴다.
+    private static class SeedRequests implements Iterator<CreateDeveloper.Request> {
+        private final int rows;
+        private int next;
+
+        private SeedRequests(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < rows;
+        }
+
+        @Override
+        public CreateDeveloper.Request next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return createRequest("seed" + next++);
+        }
+    }
+}
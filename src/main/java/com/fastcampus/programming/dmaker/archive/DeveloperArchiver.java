@@ -0,0 +1,127 @@
+package com.fastcampus.programming.dmaker.archive;
+
+import com.fastcampus.programming.dmaker.cache.DeveloperDetailCache;
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.repository.ArchivedDeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.ARCHIVED_DEVELOPERS;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.ARCHIVE_RUN;
+
+// RETIRED 된 뒤 retired-for 동안 변경이 없었던 developer row를 archived_developer로 옮기고
+// developer, retired_developer 에서 지운다. (status 별 목록/검색이 훑는 developer 테이블에는 현재 row만 남긴다.)
+// - batch-size 건마다 별도 트랜잭션이고, 한 번 실행에 shard 당 max-batches 까지만 옮긴다.
+// - getDeveloperDetail, 생성 시 memberId 중복 검사, DeveloperStats는 archive도 본다. 수정/삭제/목록/검색에서는 빠진다.
+// - bulk delete 라서 batch 마다 Developer second-level cache region 전체가 비워진다.
+// 후보 row를 select ... for update 로 잡으므로 여러 인스턴스가 같은 row를 옮기려 하면 뒤의 것이 기다렸다가 건너뛴다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dmaker.archive.enabled", havingValue = "true")
+public class DeveloperArchiver {
+    private final DeveloperRepository developerRepository;
+    private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final ArchivedDeveloperRepository archivedDeveloperRepository;
+    private final DeveloperDetailCache developerDetailCache;
+    private final DeveloperShards developerShards;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retiredFor;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter archived;
+    private final Timer runs;
+
+    public DeveloperArchiver(
+            DeveloperRepository developerRepository,
+            RetiredDeveloperRepository retiredDeveloperRepository,
+            ArchivedDeveloperRepository archivedDeveloperRepository,
+            DeveloperDetailCache developerDetailCache,
+            DeveloperShards developerShards,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${dmaker.archive.retired-for}") Duration retiredFor,
+            @Value("${dmaker.archive.batch-size}") int batchSize,
+            @Value("${dmaker.archive.max-batches}") int maxBatches
+    ) {
+        this.developerRepository = developerRepository;
+        this.retiredDeveloperRepository = retiredDeveloperRepository;
+        this.archivedDeveloperRepository = archivedDeveloperRepository;
+        this.developerDetailCache = developerDetailCache;
+        this.developerShards = developerShards;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retiredFor = retiredFor;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.archived = meterRegistry.counter(ARCHIVED_DEVELOPERS);
+        this.runs = meterRegistry.timer(ARCHIVE_RUN);
+    }
+
+    // 옮긴 developer 수
+    @Scheduled(fixedDelayString = "${dmaker.archive.interval}", initialDelayString = "${dmaker.archive.interval}")
+    public long archive() {
+        long start = System.nanoTime();
+        LocalDateTime before = LocalDateTime.now().minus(retiredFor);
+        long count = 0;
+        for (int shard = 0; shard < developerShards.getShardCount(); shard++) {
+            count += developerShards.callOn(shard, () -> archiveShard(before));
+        }
+
+        long elapsed = System.nanoTime() - start;
+        runs.record(elapsed, TimeUnit.NANOSECONDS);
+        if (count > 0) {
+            log.info("archived {} retired developers in {} ms", count, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+
+        return count;
+    }
+
+    private long archiveShard(LocalDateTime before) {
+        long count = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int moved = transactionTemplate.execute(status -> archiveBatch(before));
+            archived.increment(moved);
+            count += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+
+        return count;
+    }
+
+    // 고른 row를 잠그고, 옮기고 지울 때도 같은 조건을 다시 건다. (그 사이 수정/삭제된 row는 그대로 둔다.)
+    private int archiveBatch(LocalDateTime before) {
+        List<String> memberIds = developerRepository.findMemberIdsByStatusCodeAndUpdatedAtBeforeForUpdate(
+                StatusCode.RETIRED.name(), before, batchSize);
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+
+        // 1. copy into ArchivedDeveloper
+        int moved = archivedDeveloperRepository.insertArchivedDevelopers(
+                memberIds, StatusCode.RETIRED, before, LocalDateTime.now());
+        // 2. delete from RetiredDeveloper, Developer
+        retiredDeveloperRepository.deleteArchivedRetiredDevelopers(memberIds);
+        developerRepository.deleteDevelopersByMemberIdInAndStatusCodeAndUpdatedAtBefore(
+                memberIds, StatusCode.RETIRED, before);
+        memberIds.forEach(developerDetailCache::invalidateAfterCompletion);
+
+        return moved;
+    }
+}
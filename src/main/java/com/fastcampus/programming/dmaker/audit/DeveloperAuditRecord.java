@@ -0,0 +1,20 @@
+package com.fastcampus.programming.dmaker.audit;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 요청 스레드에서 만들어 DeveloperAuditWriter 대기열에 넣는 값. json 변환은 writer 스레드에서 한다.
+@Getter
+@AllArgsConstructor
+public class DeveloperAuditRecord {
+    private final DeveloperEventType eventType;
+    private final String memberId;
+    private final String actor;
+    private final DeveloperDetailDto before;
+    private final DeveloperDetailDto after;
+    private final LocalDateTime changedAt;
+}
@@ -0,0 +1,251 @@
+package com.fastcampus.programming.dmaker.audit;
+
+import com.fastcampus.programming.dmaker.entity.DeveloperAudit;
+import com.fastcampus.programming.dmaker.repository.DeveloperAuditRepository;
+import com.fastcampus.programming.dmaker.shard.ShardContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.*;
+
+// 변경 이력 대기열(lock-free, queue-capacity 건 까지)을 writer 스레드 하나가 batch-size 단위로 insert 한다.
+// 대기열이 가득 차면 요청 스레드가 offer-timeout 만큼 기다리고, 그래도 자리가 없으면 직접 insert 한다. (버리지 않는다.)
+// insert가 실패하면 writer 스레드가 backoff 뒤에 같은 batch를 다시 쓴다. (요청 스레드가 쓰다 실패한 것은 대기열에 다시 넣는다.)
+// max-retries 번 넘게 실패하면 그 batch는 버린다. (error log, dmaker.audit.dropped)
+@Slf4j
+@Component
+public class DeveloperAuditWriter implements SmartLifecycle {
+    // 웹 서버(DEFAULT_PHASE - 1)가 먼저 멈춘 뒤에 남은 이력을 flush 한다.
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 1024;
+    private static final long BACK_OFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final DeveloperAuditRepository developerAuditRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final int maxRetries;
+
+    private final Queue<DeveloperAuditRecord> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size()는 O(n) 이라 건수를 따로 센다.
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter written;
+    private final Counter callerRuns;
+    private final Counter failed;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    public DeveloperAuditWriter(
+            DeveloperAuditRepository developerAuditRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${dmaker.audit.queue-capacity}") int queueCapacity,
+            @Value("${dmaker.audit.batch-size}") int batchSize,
+            @Value("${dmaker.audit.flush-interval}") Duration flushInterval,
+            @Value("${dmaker.audit.offer-timeout}") Duration offerTimeout,
+            @Value("${dmaker.audit.max-retries}") int maxRetries
+    ) {
+        this.developerAuditRepository = developerAuditRepository;
+        this.objectMapper = objectMapper;
+        // 요청 스레드가 직접 쓰는 경우 afterCommit 안이므로 새 트랜잭션으로 연다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.maxRetries = maxRetries;
+
+        Gauge.builder(AUDIT_QUEUE, queued, AtomicInteger::get).register(meterRegistry);
+        this.written = meterRegistry.counter(AUDIT_WRITTEN);
+        this.callerRuns = meterRegistry.counter(AUDIT_CALLER_RUNS);
+        this.failed = meterRegistry.counter(AUDIT_FAILED);
+        this.dropped = meterRegistry.counter(AUDIT_DROPPED);
+    }
+
+    public void offer(DeveloperAuditRecord record) {
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        while (!tryReserve()) {
+            if (!running || System.nanoTime() - deadline >= 0) {
+                callerRuns.increment();
+                if (!write(Collections.singletonList(record))) {
+                    requeue(record);
+                }
+                return;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(this, BACK_OFF_NANOS);
+        }
+
+        queue.offer(record);
+        if (!running) {
+            // stop() 이후에 들어온 이력
+            flush();
+        } else if (queued.get() >= batchSize) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private boolean tryReserve() {
+        int current;
+        do {
+            current = queued.get();
+            if (current >= queueCapacity) {
+                return false;
+            }
+        } while (!queued.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    // writer 스레드가 다시 쓴다. 자리가 없어도 넣는다. (실패한 만큼만 잠시 queue-capacity를 넘는다.)
+    private void requeue(DeveloperAuditRecord record) {
+        if (!running) {
+            dropped.increment();
+            log.error("dropped developer audit record of {} after a failed write", record.getMemberId());
+            return;
+        }
+        queued.incrementAndGet();
+        queue.offer(record);
+    }
+
+    // 대기열에 남은 이력을 모두 쓴다. (writer 스레드가 멈춘 뒤에만 호출한다.)
+    private void flush() {
+        List<DeveloperAuditRecord> batch = new ArrayList<>(batchSize);
+        while (drainTo(batch) > 0) {
+            writeWithRetry(batch);
+            batch.clear();
+        }
+    }
+
+    private void drainLoop() {
+        List<DeveloperAuditRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            int drained = drainTo(batch);
+            if (drained > 0) {
+                writeWithRetry(batch);
+                batch.clear();
+            }
+            if (drained < batchSize) {
+                // batch-size 만큼 쌓이면 offer()가 깨운다.
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    private int drainTo(List<DeveloperAuditRecord> batch) {
+        DeveloperAuditRecord record;
+        while (batch.size() < batchSize && (record = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(record);
+        }
+        return batch.size();
+    }
+
+    // 실패하면 flush-interval 부터 두 배씩(최대 10초) 기다렸다가 다시 쓴다. 그 사이 대기열은 쌓인다.
+    private void writeWithRetry(List<DeveloperAuditRecord> records) {
+        long backoffNanos = Math.min(flushIntervalNanos, MAX_RETRY_BACKOFF_NANOS);
+        for (int failures = 0; !write(records); failures++) {
+            if (failures >= maxRetries) {
+                dropped.increment(records.size());
+                log.error("dropped {} developer audit records after {} failed writes", records.size(), failures + 1);
+                return;
+            }
+            LockSupport.parkNanos(this, backoffNanos);
+            backoffNanos = Math.min(backoffNanos * 2, MAX_RETRY_BACKOFF_NANOS);
+        }
+    }
+
+    private boolean write(List<DeveloperAuditRecord> records) {
+        try {
+            List<DeveloperAudit> audits = new ArrayList<>(records.size());
+            for (DeveloperAuditRecord record : records) {
+                audits.add(toEntity(record));
+            }
+            // 요청 스레드가 직접 쓸 때도 개발자의 shard가 아니라 home shard에 쓴다.
+            ShardContext.callOn(ShardContext.HOME_SHARD,
+                    () -> transactionTemplate.execute(status -> developerAuditRepository.saveAll(audits)));
+            written.increment(records.size());
+            return true;
+        } catch (RuntimeException e) {
+            failed.increment(records.size());
+            log.warn("failed to write {} developer audit records", records.size(), e);
+            return false;
+        }
+    }
+
+    private DeveloperAudit toEntity(DeveloperAuditRecord record) {
+        try {
+            return DeveloperAudit.builder()
+                    .memberId(record.getMemberId())
+                    .eventType(record.getEventType())
+                    .actor(record.getActor())
+                    .beforeSnapshot(record.getBefore() == null ? null :
+                            objectMapper.writeValueAsString(record.getBefore()))
+                    .afterSnapshot(objectMapper.writeValueAsString(record.getAfter()))
+                    .changedAt(record.getChangedAt())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::drainLoop, "developer-audit-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("developer audit writer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
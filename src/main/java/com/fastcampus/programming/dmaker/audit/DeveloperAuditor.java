@@ -0,0 +1,86 @@
+package com.fastcampus.programming.dmaker.audit;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.ACTOR_HEADER;
+
+// 서비스에서 변경 전/후 snapshot을 받아 commit 이후에 DeveloperAuditWriter로 넘긴다.
+// (롤백된 변경은 이력에 남지 않고, 요청 스레드는 insert를 기다리지 않는다.)
+@Component
+@RequiredArgsConstructor
+public class DeveloperAuditor {
+    static final String ANONYMOUS = "anonymous";
+    static final String SYSTEM = "system";
+    private static final int MAX_ACTOR_LENGTH = 255;
+
+    private final DeveloperAuditWriter developerAuditWriter;
+
+    // before/after 는 이후에 바뀌지 않는 새 객체를 넘긴다.
+    public void record(DeveloperEventType eventType, DeveloperDetailDto before, DeveloperDetailDto after) {
+        DeveloperAuditRecord record = new DeveloperAuditRecord(
+                eventType, after.getMemberId(), currentActor(), before, after, LocalDateTime.now());
+        afterCommit(() -> developerAuditWriter.offer(record));
+    }
+
+    // befores 가 null 이면 (CREATED) before 없이 기록한다.
+    public void recordAll(DeveloperEventType eventType,
+                          List<DeveloperDetailDto> befores, List<DeveloperDetailDto> afters) {
+        String actor = currentActor();
+        LocalDateTime changedAt = LocalDateTime.now();
+        List<DeveloperAuditRecord> records = new ArrayList<>(afters.size());
+        for (int i = 0; i < afters.size(); i++) {
+            DeveloperDetailDto after = afters.get(i);
+            records.add(new DeveloperAuditRecord(eventType, after.getMemberId(), actor,
+                    befores == null ? null : befores.get(i), after, changedAt));
+        }
+        afterCommit(() -> records.forEach(developerAuditWriter::offer));
+    }
+
+    // 요청 때 만들어 둔 이력 (DeveloperEditCoalescer: flush 스레드에서 반영하므로 actor는 요청 때 값)
+    public void recordAll(List<DeveloperAuditRecord> records) {
+        List<DeveloperAuditRecord> copy = new ArrayList<>(records);
+        afterCommit(() -> copy.forEach(developerAuditWriter::offer));
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        task.run();
+                    }
+                });
+    }
+
+    public static String currentActor() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            // 스케줄러 등 요청 밖에서의 변경
+            return SYSTEM;
+        }
+
+        String actor = ((ServletRequestAttributes) attributes).getRequest().getHeader(ACTOR_HEADER);
+        if (!StringUtils.hasText(actor)) {
+            return ANONYMOUS;
+        }
+        return actor.length() > MAX_ACTOR_LENGTH ? actor.substring(0, MAX_ACTOR_LENGTH) : actor;
+    }
+}
@@ -0,0 +1,64 @@
+package com.fastcampus.programming.dmaker.cache;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+// memberId -> DeveloperDetailDto read-through 캐시
+@RequiredArgsConstructor
+public class DeveloperDetailCache {
+    private static final int STRIPES = 1024;
+
+    private final Cache<String, DeveloperDetailDto> cache;
+    // stripe 별 무효화 횟수. 로딩 중에 무효화가 일어났는지 확인하는 용도
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+
+    public DeveloperDetailDto get(String memberId, Supplier<DeveloperDetailDto> loader) {
+        DeveloperDetailDto cached = cache.getIfPresent(memberId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripeOf(memberId);
+        long stamp = invalidations.get(stripe);
+        DeveloperDetailDto loaded = loader.get();
+        cache.put(memberId, loaded);
+        // 로딩하는 사이 변경이 커밋되었다면 방금 넣은 값은 stale일 수 있으므로 버린다.
+        if (invalidations.get(stripe) != stamp) {
+            cache.invalidate(memberId);
+        }
+
+        return loaded;
+    }
+
+    public void invalidate(String memberId) {
+        invalidations.incrementAndGet(stripeOf(memberId));
+        cache.invalidate(memberId);
+    }
+
+    // 트랜잭션이 끝난 뒤(커밋/롤백 모두) 무효화해서 커밋 전 값이 다시 캐시되지 않도록 한다.
+    public void invalidateAfterCompletion(String memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(memberId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        invalidate(memberId);
+                    }
+                });
+    }
+
+    private static int stripeOf(String memberId) {
+        int hash = memberId.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
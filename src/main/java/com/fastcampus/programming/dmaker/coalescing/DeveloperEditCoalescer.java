@@ -0,0 +1,415 @@
+package com.fastcampus.programming.dmaker.coalescing;
+
+import com.fastcampus.programming.dmaker.audit.DeveloperAuditRecord;
+import com.fastcampus.programming.dmaker.audit.DeveloperAuditor;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.*;
+
+// write-behind (dmaker.edit-coalescing.enabled)
+// 같은 memberId에 대한 edit을 memberId stripe 별 버퍼에 합쳐 두고, 첫 edit 후 window가 지나거나
+// max-edits 건이 모이면 flush 스레드가 UPDATE 한 번으로 반영한다. (DmakerService.applyCoalescedEdit)
+// - 응답과 getDeveloperDetail은 버퍼의 값이다. version(ETag)도 건별로 수정한 것과 같이 edit 마다 1 올라간다.
+// - 변경 이력은 edit 마다 요청 때의 actor와 before/after로 남긴다. (flush 스레드에는 요청이 없다.)
+// - stop() 때 남은 edit을 모두 반영한다. 프로세스가 비정상 종료되면 최대 window 동안의 edit을 잃는다.
+// - If-Match가 있는 edit은 버퍼를 먼저 반영한 뒤 바로 반영한다. (DB의 version과 비교한다.)
+// - 삭제, bulk retire는 커밋되면 그 memberId의 버퍼를 버린다. (discardAfterCommit)
+// - flush 때 version이나 statusCode가 버퍼의 base와 다르면(다른 경로, 다른 인스턴스) 덮어쓰지 않고 버린다.
+//   (dmaker.edit.conflicts) 버퍼가 내준 ETag로 보낸 If-Match는 412가 되고, 클라이언트는 다시 GET 해야 한다.
+// - flush가 실패하면 backoff 뒤에 다시 시도하고, max-retries 번 넘게 실패하면 그 edit들을 버린다. (error log, dmaker.edit.dropped)
+@Slf4j
+@Component
+public class DeveloperEditCoalescer implements SmartLifecycle {
+    private static final int STRIPES = 64;
+    // 웹 서버(DEFAULT_PHASE - 1)가 멈춘 뒤, 변경 이력 writer(DEFAULT_PHASE - 1024)보다 먼저 flush 한다.
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 512;
+    private static final long MAX_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final ObjectProvider<DmakerService> dmakerService;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxEdits;
+    private final int maxRetries;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicInteger pendingKeys = new AtomicInteger();
+    private final Counter coalesced;
+    private final Counter flushes;
+    private final Counter failed;
+    private final Counter dropped;
+    private final Counter conflicts;
+
+    private volatile boolean running;
+    private volatile Thread flushThread;
+
+    // DmakerService가 getDeveloperDetail에서 이 bean을 쓰므로 flush 대상은 나중에 꺼낸다.
+    public DeveloperEditCoalescer(
+            ObjectProvider<DmakerService> dmakerService,
+            MeterRegistry meterRegistry,
+            @Value("${dmaker.edit-coalescing.enabled}") boolean enabled,
+            @Value("${dmaker.edit-coalescing.window}") Duration window,
+            @Value("${dmaker.edit-coalescing.max-edits}") int maxEdits,
+            @Value("${dmaker.edit-coalescing.max-retries}") int maxRetries
+    ) {
+        this.dmakerService = dmakerService;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxEdits = maxEdits;
+        this.maxRetries = maxRetries;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+
+        Gauge.builder(EDITS_PENDING, pendingKeys, AtomicInteger::get).register(meterRegistry);
+        this.coalesced = meterRegistry.counter(EDITS_COALESCED);
+        this.flushes = meterRegistry.counter(EDIT_FLUSHES);
+        this.failed = meterRegistry.counter(EDIT_FLUSH_FAILED);
+        this.dropped = meterRegistry.counter(EDITS_DROPPED);
+        this.conflicts = meterRegistry.counter(EDIT_CONFLICTS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 아직 DB에 반영되지 않은 마지막 edit 결과. 없으면 null
+    public DeveloperDetailDto pending(String memberId) {
+        if (!enabled) {
+            return null;
+        }
+
+        Stripe stripe = stripeOf(memberId);
+        synchronized (stripe) {
+            Slot slot = stripe.slots.get(memberId);
+            return slot == null ? null : slot.latest();
+        }
+    }
+
+    // DmakerService.editDeveloper 와 같은 검증, 같은 응답. stop() 이후에는 바로 반영한다.
+    public DeveloperDetailDto edit(String memberId, EditDeveloper.Request request, Set<Long> expectedVersions) {
+        request.getDeveloperLevel().validateExperienceYears(request.getExperienceYears());
+        if (expectedVersions != null) {
+            // 캐시나 버퍼의 version이 아니라 DB의 version과 비교해야 lost update가 없다.
+            flushNow(memberId);
+            return dmakerService.getObject().editDeveloper(memberId, request, expectedVersions);
+        }
+        // 버퍼에 없으면 DB(캐시) 값. 없는 developer면 NO_DEVELOPER
+        DeveloperDetailDto current = dmakerService.getObject().getDeveloperDetail(memberId);
+        String actor = DeveloperAuditor.currentActor();
+
+        Stripe stripe = stripeOf(memberId);
+        boolean full = false;
+        DeveloperDetailDto after = null;
+        synchronized (stripe) {
+            if (running) {
+                Slot slot = stripe.slots.get(memberId);
+                DeveloperDetailDto latest = slot == null ? current : slot.latest();
+                after = latest.toBuilder()
+                        .developerLevel(request.getDeveloperLevel())
+                        .developerSkillType(request.getDeveloperSkillType())
+                        .experienceYears(request.getExperienceYears())
+                        .version(latest.getVersion() + 1)
+                        .build();
+                if (slot == null) {
+                    slot = new Slot();
+                    stripe.slots.put(memberId, slot);
+                    pendingKeys.incrementAndGet();
+                }
+                if (slot.pending == null) {
+                    slot.pending = new PendingEdit(latest, System.nanoTime());
+                }
+                slot.pending.latest = after;
+                slot.pending.edits.add(new DeveloperAuditRecord(
+                        DeveloperEventType.EDITED, memberId, actor, latest, after, LocalDateTime.now()));
+                full = slot.pending.edits.size() >= maxEdits;
+            }
+        }
+        if (after == null) {
+            return dmakerService.getObject().editDeveloper(memberId, request, null);
+        }
+
+        coalesced.increment();
+        if (full) {
+            LockSupport.unpark(flushThread);
+        }
+        return after;
+    }
+
+    // 커밋되면 아직 반영하지 않은 edit을 버린다. (삭제, bulk retire. 트랜잭션 밖이면 바로)
+    // 반영 중인 edit은 statusCode/version이 달라 충돌로 버려진다.
+    public void discardAfterCommit(String memberId) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            discard(memberId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        discard(memberId);
+                    }
+                });
+    }
+
+    private void discard(String memberId) {
+        Stripe stripe = stripeOf(memberId);
+        synchronized (stripe) {
+            Slot slot = stripe.slots.get(memberId);
+            if (slot == null || slot.pending == null) {
+                return;
+            }
+
+            conflicts.increment();
+            log.warn("discarded {} buffered edits of retired developer {}", slot.pending.edits.size(), memberId);
+            slot.pending = null;
+            if (slot.flushing == null) {
+                stripe.slots.remove(memberId);
+                pendingKeys.decrementAndGet();
+            }
+        }
+    }
+
+    // 이 memberId의 버퍼를 호출한 스레드에서 반영한다. flush 스레드가 반영 중이면 끝날 때까지 기다린다.
+    private void flushNow(String memberId) {
+        Stripe stripe = stripeOf(memberId);
+        synchronized (stripe) {
+            while (true) {
+                Slot slot = stripe.slots.get(memberId);
+                if (slot == null || (slot.flushing == null && slot.pending == null)) {
+                    return;
+                }
+                if (slot.flushing == null) {
+                    slot.flushing = slot.pending;
+                    slot.pending = null;
+                    break;
+                }
+                try {
+                    stripe.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        apply(stripe, memberId);
+    }
+
+    private void flushLoop() {
+        while (running) {
+            flush(false);
+            LockSupport.parkNanos(this, Math.max(windowNanos / 2, TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+    }
+
+    // all = false 이면 window가 지났거나 max-edits 건이 모인 memberId만
+    private void flush(boolean all) {
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            List<String> due = new ArrayList<>();
+            synchronized (stripe) {
+                for (Map.Entry<String, Slot> entry : stripe.slots.entrySet()) {
+                    // 같은 memberId는 한 번에 하나씩 flush 한다. (다음 flush는 앞 flush 결과의 version을 기준으로 한다.)
+                    Slot slot = entry.getValue();
+                    if (slot.flushing == null && slot.pending != null && (all || slot.pending.isDue(now))) {
+                        slot.flushing = slot.pending;
+                        slot.pending = null;
+                        due.add(entry.getKey());
+                    }
+                }
+            }
+
+            for (String memberId : due) {
+                apply(stripe, memberId);
+            }
+        }
+    }
+
+    private void apply(Stripe stripe, String memberId) {
+        PendingEdit edit;
+        synchronized (stripe) {
+            edit = stripe.slots.get(memberId).flushing;
+        }
+
+        boolean retry = false;
+        try {
+            if (dmakerService.getObject().applyCoalescedEdit(memberId, edit.base, edit.latest, edit.edits)) {
+                flushes.increment();
+            } else {
+                conflicts.increment();
+            }
+        } catch (DMakerException e) {
+            // 그 사이 developer가 없어졌다. (archive 등)
+            failed.increment();
+            log.warn("dropped {} buffered edits of developer {}: {}", edit.edits.size(), memberId, e.getMessage());
+        } catch (RuntimeException e) {
+            failed.increment();
+            if (edit.failures < maxRetries) {
+                retry = true;
+                edit.retryLater(System.nanoTime());
+                log.warn("failed to flush {} buffered edits of developer {} ({} times), retrying",
+                        edit.edits.size(), memberId, edit.failures, e);
+            } else {
+                dropped.increment(edit.edits.size());
+                log.error("dropped {} buffered edits of developer {} after {} failed flushes",
+                        edit.edits.size(), memberId, edit.failures + 1, e);
+            }
+        }
+
+        synchronized (stripe) {
+            Slot slot = stripe.slots.get(memberId);
+            slot.flushing = null;
+            if (retry) {
+                // 다음 주기에 다시 반영한다. flush 하는 사이 들어온 edit은 뒤에 합친다.
+                slot.pending = slot.pending == null ? edit : edit.followedBy(slot.pending);
+            }
+            if (slot.pending == null) {
+                stripe.slots.remove(memberId);
+                pendingKeys.decrementAndGet();
+            }
+            // flushNow() 에서 기다리는 스레드
+            stripe.notifyAll();
+        }
+    }
+
+    private Stripe stripeOf(String memberId) {
+        int hash = memberId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        Thread thread = new Thread(this::flushLoop, "developer-edit-flusher");
+        thread.setDaemon(true);
+        flushThread = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        Thread thread = flushThread;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 실패한 edit은 한 번 더 시도한다.
+        flush(true);
+        flush(true);
+        if (pendingKeys.get() > 0) {
+            log.error("{} developers still have buffered edits after shutdown flush", pendingKeys.get());
+        }
+        log.info("developer edit coalescer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private static final class Stripe {
+        private final Map<String, Slot> slots = new HashMap<>();
+    }
+
+    private static final class Slot {
+        // 아직 flush 하지 않은 edit
+        private PendingEdit pending;
+        // flush 중인 edit (커밋 전까지 조회는 이 값)
+        private PendingEdit flushing;
+
+        private DeveloperDetailDto latest() {
+            if (pending != null) {
+                return pending.latest;
+            }
+            return flushing == null ? null : flushing.latest;
+        }
+    }
+
+    private final class PendingEdit {
+        // 첫 edit 전 상태. UPDATE 시 이 version 인지 확인한다.
+        private final DeveloperDetailDto base;
+        private final long firstEditNanos;
+        private DeveloperDetailDto latest;
+        // edit 마다 변경 이력 (요청 때의 actor)
+        private final List<DeveloperAuditRecord> edits = new ArrayList<>();
+        // flush 실패 횟수와 그 뒤 다시 시도할 시각
+        private int failures;
+        private long retryAtNanos;
+
+        private PendingEdit(DeveloperDetailDto base, long firstEditNanos) {
+            this.base = base;
+            this.firstEditNanos = firstEditNanos;
+        }
+
+        private boolean isDue(long now) {
+            if (failures > 0) {
+                return now - retryAtNanos >= 0;
+            }
+            return edits.size() >= maxEdits || now - firstEditNanos >= windowNanos;
+        }
+
+        // window 부터 실패할 때마다 두 배 (최대 MAX_RETRY_BACKOFF_NANOS)
+        private void retryLater(long now) {
+            long backoffNanos = Math.min(windowNanos, MAX_RETRY_BACKOFF_NANOS);
+            for (int i = 0; i < failures && backoffNanos < MAX_RETRY_BACKOFF_NANOS; i++) {
+                backoffNanos = Math.min(backoffNanos * 2, MAX_RETRY_BACKOFF_NANOS);
+            }
+            failures++;
+            retryAtNanos = now + backoffNanos;
+        }
+
+        private PendingEdit followedBy(PendingEdit next) {
+            PendingEdit merged = new PendingEdit(base, firstEditNanos);
+            merged.latest = next.latest;
+            merged.edits.addAll(edits);
+            merged.edits.addAll(next.edits);
+            merged.failures = failures;
+            merged.retryAtNanos = retryAtNanos;
+            return merged;
+        }
+    }
+}
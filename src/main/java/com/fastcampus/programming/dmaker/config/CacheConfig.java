@@ -0,0 +1,65 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.cache.DeveloperDetailCache;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.idempotency.IdempotencyStore;
+import com.fastcampus.programming.dmaker.idempotency.StoredResponse;
+import com.fastcampus.programming.dmaker.repository.IdempotencyKeyRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_DETAIL_CACHE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.IDEMPOTENCY_KEY_CACHE;
+
+@Configuration(proxyBeanMethods = false)
+public class CacheConfig {
+    @Bean
+    public DeveloperDetailCache developerDetailCache(
+            @Value("${dmaker.cache.developer-detail.maximum-size}") long maximumSize,
+            @Value("${dmaker.cache.developer-detail.expire-after-write}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry
+    ) {
+        Cache<String, DeveloperDetailDto> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size ...
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, DEVELOPER_DETAIL_CACHE);
+
+        return new DeveloperDetailCache(cache);
+    }
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            @Value("${dmaker.idempotency.maximum-size}") long maximumSize,
+            @Value("${dmaker.idempotency.ttl}") Duration ttl,
+            @Value("${dmaker.idempotency.jdbc.enabled}") boolean jdbcEnabled,
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            PlatformTransactionManager transactionManager,
+            DeveloperShards developerShards,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        Cache<String, StoredResponse> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, IDEMPOTENCY_KEY_CACHE);
+
+        return new IdempotencyStore(cache, jdbcEnabled ? idempotencyKeyRepository : null,
+                new TransactionTemplate(transactionManager), developerShards, objectMapper, ttl);
+    }
+}
@@ -0,0 +1,45 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.metrics.DbLatencySampler;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// DataSource를 datasource-proxy로 감싸서 실행된 SQL 문을 종류별(select/insert/update/delete)로 센다.
+// - 개수 : QueryCountHolder (스레드 단위, StatementCountFilter / 테스트에서 사용)
+// - 로그 : logging.level.dmaker.sql=debug 일 때만 SQL을 남긴다. (show-sql 대신)
+// - 실행 시간 : DbLatencySampler (AdaptiveConcurrencyLimiter 가 DB 지연을 보고 동시 요청 수를 줄인다.)
+@Configuration(proxyBeanMethods = false)
+public class DataSourceProxyConfig {
+    public static final String DATA_SOURCE_NAME = "dmaker";
+    public static final String SQL_LOGGER = "dmaker.sql";
+
+    // DataSource보다 먼저 만들어져야 하므로 의존성 없는 static bean으로 둔다.
+    @Bean
+    public static DbLatencySampler dbLatencySampler() {
+        return new DbLatencySampler();
+    }
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyBeanPostProcessor(DbLatencySampler dbLatencySampler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+
+                return ProxyDataSourceBuilder.create(DATA_SOURCE_NAME, (DataSource) bean)
+                        .countQuery()
+                        .logQueryBySlf4j(SLF4JLogLevel.DEBUG, SQL_LOGGER)
+                        .afterQuery((execInfo, queryInfoList) -> dbLatencySampler.record(execInfo.getElapsedTime()))
+                        .build();
+            }
+        };
+    }
+}
@@ -1,9 +1,73 @@
 package com.fastcampus.programming.dmaker.config;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
-@Configuration
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_NATURAL_ID_REGION;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_REGION;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_STATUS_QUERY_REGION;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.RETIRED_DEVELOPER_REGION;
+
+// hibernate second-level cache (JCache + Caffeine)
+// region은 여기서 미리 만들고, 없는 region을 쓰면 시작할 때 실패한다. (hibernate.javax.cache.missing_cache_strategy)
+// - entity / natural id : dmaker.cache.second-level.entity
+// - 상태별 목록 query 결과 : dmaker.cache.second-level.query
+// - update timestamps : query 결과가 최신인지 판단하므로 크기/만료 제한을 두지 않는다. (테이블 수만큼만 쌓인다.)
+@Configuration(proxyBeanMethods = false)
 @EnableJpaAuditing
 public class JpaConfig {
+    // 같은 JVM의 다른 ApplicationContext(테스트 등)와 region을 같이 쓰지 않도록 CacheManager를 따로 만든다.
+    @Bean
+    public CacheManager secondLevelCacheManager(
+            @Value("${dmaker.cache.second-level.entity.maximum-size}") long entityMaximumSize,
+            @Value("${dmaker.cache.second-level.entity.expire-after-write}") Duration entityExpireAfterWrite,
+            @Value("${dmaker.cache.second-level.query.maximum-size}") long queryMaximumSize,
+            @Value("${dmaker.cache.second-level.query.expire-after-write}") Duration queryExpireAfterWrite
+    ) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("dmaker-second-level-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        CaffeineConfiguration<Object, Object> entity = region(entityMaximumSize, entityExpireAfterWrite);
+        cacheManager.createCache(DEVELOPER_REGION, entity);
+        cacheManager.createCache(DEVELOPER_NATURAL_ID_REGION, entity);
+        cacheManager.createCache(RETIRED_DEVELOPER_REGION, entity);
+
+        CaffeineConfiguration<Object, Object> query = region(queryMaximumSize, queryExpireAfterWrite);
+        cacheManager.createCache(DEVELOPER_STATUS_QUERY_REGION, query);
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, query);
+
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        configuration.setStatisticsEnabled(true);
+
+        return configuration;
+    }
 }
@@ -0,0 +1,24 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Accept: application/cbor 인 요청에는 JSON 대신 CBOR(binary)로 응답한다. (요청 body도 Content-Type: application/cbor 가능)
+// - enum은 이름 대신 ordinal로 쓴다. 순서가 곧 값이므로 enum 상수는 맨 뒤에만 추가한다.
+// - 기본 converter 목록의 CBOR converter를 대체하므로 Accept 가 없거나 */* 이면 지금처럼 JSON이다.
+@Configuration(proxyBeanMethods = false)
+public class MessageConverterConfig {
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder
+    ) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapperBuilder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+                .build());
+    }
+}
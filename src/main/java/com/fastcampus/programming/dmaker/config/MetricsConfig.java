@@ -0,0 +1,32 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.metrics.StatementCountFilter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// 기본 제공 metric 외에 추가하는 것들
+// - dmaker.service : DmakerService 메서드 별 시간 (@Timed)
+// - dmaker.request.statements : 요청 당 SQL 문 개수 (DataSourceProxyConfig)
+// - dmaker.errors : DMakerErrorCode 별 발생 횟수 (DMakerExceptionHandler)
+// repository(spring.data.repository.invocations), hikari(hikaricp.connections.acquire)는
+// spring boot 자동 설정을 그대로 쓰고 percentile만 application.yml에서 켠다.
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<StatementCountFilter> registration =
+                new FilterRegistrationBean<>(new StatementCountFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registration;
+    }
+}
@@ -0,0 +1,32 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.outbox.FileDeveloperEventSink;
+import com.fastcampus.programming.dmaker.outbox.InMemoryDeveloperEventSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+// dmaker.outbox.sink: none | memory | file
+// none 이어도 relay는 publish_seq를 매기므로 /developers/changes 는 동작한다.
+@Configuration(proxyBeanMethods = false)
+public class OutboxConfig {
+    @Bean
+    @ConditionalOnProperty(name = "dmaker.outbox.sink", havingValue = "memory")
+    public InMemoryDeveloperEventSink inMemoryDeveloperEventSink(
+            @Value("${dmaker.outbox.memory.capacity}") int capacity
+    ) {
+        return new InMemoryDeveloperEventSink(capacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "dmaker.outbox.sink", havingValue = "file")
+    public FileDeveloperEventSink fileDeveloperEventSink(
+            @Value("${dmaker.outbox.file.path}") String path, ObjectMapper objectMapper
+    ) {
+        return new FileDeveloperEventSink(Paths.get(path), objectMapper);
+    }
+}
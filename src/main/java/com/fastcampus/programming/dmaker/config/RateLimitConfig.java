@@ -0,0 +1,66 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.controller.DMakerController;
+import com.fastcampus.programming.dmaker.metrics.DbLatencySampler;
+import com.fastcampus.programming.dmaker.ratelimit.AdaptiveConcurrencyLimiter;
+import com.fastcampus.programming.dmaker.ratelimit.RateLimitInterceptor;
+import com.fastcampus.programming.dmaker.ratelimit.RateLimitProperties;
+import com.fastcampus.programming.dmaker.ratelimit.RateLimiter;
+import com.fastcampus.programming.dmaker.ratelimit.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.CONCURRENCY_IN_FLIGHT;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.CONCURRENCY_LIMIT;
+
+// DMakerController 앞의 rate limit / load shedding (dmaker.rate-limit)
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(name = "dmaker.rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig implements WebMvcConfigurer {
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiter;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitConfig(RateLimitProperties properties,
+                           ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiter,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumBuckets())
+                .expireAfterAccess(properties.getBucketExpireAfterAccess())
+                .build();
+        this.rateLimiter = new RateLimiter(buckets, properties.getDefaultLimit(), properties.getLimits());
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "dmaker.rate-limit.concurrency.enabled", havingValue = "true")
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(DbLatencySampler dbLatencySampler) {
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(dbLatencySampler, properties.getConcurrency());
+        Gauge.builder(CONCURRENCY_LIMIT, limiter, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder(CONCURRENCY_IN_FLIGHT, limiter, AdaptiveConcurrencyLimiter::getInFlight).register(meterRegistry);
+
+        return limiter;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(DMakerController.class, rateLimiter,
+                concurrencyLimiter.getIfAvailable(), meterRegistry,
+                StringUtils.hasText(properties.getClientHeader()) ? properties.getClientHeader() : null));
+    }
+}
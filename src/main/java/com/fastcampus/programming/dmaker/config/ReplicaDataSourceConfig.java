@@ -0,0 +1,69 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.datasource.ReplicaRouter;
+import com.fastcampus.programming.dmaker.datasource.ReplicaRoutingDataSource;
+import com.fastcampus.programming.dmaker.datasource.ReplicaRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// dmaker.datasource.replica.enabled=true 이면 DataSource를 primary(spring.datasource) + replica pool 들로 나눈다.
+// pool 들은 bean이 아니므로 hikaricp.* metric 은 여기서 직접 연결한다. (pool 태그: primary, replica 이름)
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(name = "dmaker.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+    @Bean
+    public ReplicaRouter replicaRouter(
+            DataSourceProperties dataSourceProperties, ReplicaRoutingProperties properties,
+            Environment environment, MeterRegistry meterRegistry
+    ) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRouter.PRIMARY);
+        primary.setMetricRegistry(meterRegistry);
+
+        List<ReplicaRouter.Pool> replicas = new ArrayList<>();
+        for (ReplicaRoutingProperties.Pool pool : properties.getPools()) {
+            String name = pool.getName() == null ? "replica-" + replicas.size() : pool.getName();
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(pool.getUrl());
+            replica.setUsername(pool.getUsername());
+            replica.setPassword(pool.getPassword());
+            replica.setMaximumPoolSize(pool.getMaximumPoolSize());
+            replica.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            replica.setReadOnly(true);
+            // replica가 떠 있지 않아도 애플리케이션은 뜬다. (primary에서 읽는다.)
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricRegistry(meterRegistry);
+            replicas.add(new ReplicaRouter.Pool(name, replica));
+        }
+
+        ReplicaRouter replicaRouter = new ReplicaRouter(
+                new ReplicaRouter.Pool(ReplicaRouter.PRIMARY, primary), replicas, properties, meterRegistry);
+        replicaRouter.checkReplicas();
+
+        return replicaRouter;
+    }
+
+    // 트랜잭션이 시작되고(readOnly 여부가 정해지고) 첫 SQL을 실행할 때 pool을 고르도록 LazyConnectionDataSourceProxy로 감싼다.
+    @Bean
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(replicaRouter));
+    }
+}
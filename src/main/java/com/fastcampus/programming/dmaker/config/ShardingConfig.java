@@ -0,0 +1,133 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.shard.ConsistentHashRing;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.shard.ShardDataSources;
+import com.fastcampus.programming.dmaker.shard.ShardKeyAspect;
+import com.fastcampus.programming.dmaker.shard.ShardRebalancer;
+import com.fastcampus.programming.dmaker.shard.ShardRoutingDataSource;
+import com.fastcampus.programming.dmaker.shard.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+// dmaker.sharding.enabled=true 이면 DataSource를 shard 별 pool로 나누고 memberId hash로 고른다. (DeveloperShards)
+// 끄면 shard 하나(spring.datasource 그대로)로 동작한다.
+// replica routing(dmaker.datasource.replica)과 같이 켤 수 없다. (둘 다 DataSource bean을 만든다.)
+@Configuration(proxyBeanMethods = false)
+public class ShardingConfig {
+    @Bean
+    @ConditionalOnProperty(name = "dmaker.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public DeveloperShards singleDeveloperShards() {
+        return DeveloperShards.single();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(ShardingProperties.class)
+    @ConditionalOnProperty(name = "dmaker.sharding.enabled", havingValue = "true")
+    static class Sharded {
+        // shard 마다 developer_seq, retired_developer id 시작 값을 이만큼 띄워서 id가 전체 shard에서 겹치지 않게 한다.
+        // (second-level cache key, 여러 shard를 합친 목록의 keyset cursor)
+        static final long SHARD_ID_RANGE = 1L << 40;
+
+        @Bean
+        public ShardDataSources shardDataSources(ShardingProperties properties, MeterRegistry meterRegistry) {
+            List<HikariDataSource> dataSources = new ArrayList<>();
+            for (ShardingProperties.Shard shard : properties.getShards()) {
+                HikariDataSource dataSource = new HikariDataSource();
+                dataSource.setPoolName("shard-" + dataSources.size());
+                dataSource.setJdbcUrl(shard.getUrl());
+                dataSource.setUsername(shard.getUsername());
+                dataSource.setPassword(shard.getPassword());
+                dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+                dataSource.setMetricRegistry(meterRegistry);
+                dataSources.add(dataSource);
+            }
+            if (dataSources.isEmpty()) {
+                throw new IllegalStateException("dmaker.sharding.shards is empty");
+            }
+
+            return new ShardDataSources(dataSources);
+        }
+
+        @Bean
+        public ConsistentHashRing shardRing(ShardDataSources shardDataSources, ShardingProperties properties) {
+            return new ConsistentHashRing(shardDataSources.getDataSources().size(), properties.getVirtualNodes());
+        }
+
+        // shard를 정하는 시점이 트랜잭션 시작 이후일 수 있으므로 첫 SQL을 실행할 때 pool을 고른다.
+        @Bean
+        public DataSource dataSource(ShardDataSources shardDataSources) {
+            return new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(shardDataSources.getDataSources()));
+        }
+
+        // 모든 shard에 같은 migration을 적용한다.
+        @Bean
+        public FlywayMigrationStrategy shardFlywayMigrationStrategy(ShardDataSources shardDataSources) {
+            return flyway -> {
+                List<HikariDataSource> dataSources = shardDataSources.getDataSources();
+                for (int shard = 0; shard < dataSources.size(); shard++) {
+                    Flyway.configure()
+                            .configuration(flyway.getConfiguration())
+                            .dataSource(dataSources.get(shard))
+                            .load()
+                            .migrate();
+                    separateIdRange(shard, dataSources.get(shard));
+                }
+            };
+        }
+
+        // 아직 row가 없는 shard만 (H2 문법, db/migration 과 같다.)
+        private static void separateIdRange(int shard, DataSource dataSource) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            if (shard == 0 || jdbcTemplate.queryForObject("select max(id) from developer", Long.class) != null) {
+                return;
+            }
+
+            long start = shard * SHARD_ID_RANGE + 1;
+            jdbcTemplate.execute("alter sequence developer_seq restart with " + start);
+            jdbcTemplate.execute("alter table retired_developer alter column id restart with " + start);
+        }
+
+        @Bean
+        public DeveloperShards developerShards(ConsistentHashRing shardRing, PlatformTransactionManager transactionManager,
+                                               ShardingProperties properties) {
+            TransactionTemplate readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+            readOnlyTransactionTemplate.setReadOnly(true);
+
+            return DeveloperShards.sharded(shardRing, readOnlyTransactionTemplate,
+                    Executors.newFixedThreadPool(properties.getScatterThreads(),
+                            new CustomizableThreadFactory("shard-scatter-")));
+        }
+
+        @Bean
+        public ShardKeyAspect shardKeyAspect(DeveloperShards developerShards) {
+            return new ShardKeyAspect(developerShards);
+        }
+
+        // ./gradlew reshard
+        @Bean
+        @ConditionalOnProperty(name = "dmaker.sharding.rebalance.enabled", havingValue = "true")
+        public ApplicationRunner shardRebalanceRunner(ShardDataSources shardDataSources, ConsistentHashRing shardRing,
+                                                      ShardingProperties properties) {
+            return args -> new ShardRebalancer(shardDataSources.getDataSources(), shardRing,
+                    properties.getRebalance().getBatchSize()).rebalance();
+        }
+    }
+}
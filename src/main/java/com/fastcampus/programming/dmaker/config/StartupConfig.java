@@ -0,0 +1,36 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.archive.DeveloperArchiver;
+import com.fastcampus.programming.dmaker.idempotency.IdempotencyStore;
+import com.fastcampus.programming.dmaker.outbox.DeveloperOutboxRelay;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// fast-start profile(application-fast-start.yml) 관련 설정
+// - lazy init이어도 요청과 상관없이 주기적으로 도는 bean은 시작할 때 만든다. (@Scheduled는 bean이 만들어져야 등록된다.)
+//   (DeveloperStats 는 처음 쓰일 때 DB에서 인원 수를 읽으므로 lazy로 둔다. reconcile도 그때부터 돈다.)
+// - dmaker.startup.exit-after-ready=true : 뜨자마자 종료한다. (./gradlew cdsArchive 학습 실행)
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledBeansLazyInitializationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DeveloperOutboxRelay.class, IdempotencyStore.class, DeveloperArchiver.class);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "dmaker.startup.exit-after-ready", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> exitAfterReady() {
+        return event -> {
+            log.info("application ready, exiting (dmaker.startup.exit-after-ready)");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.fastcampus.programming.dmaker.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// dmaker.execution.virtual-threads=true 이면 요청 하나를 가상 스레드 하나에서 처리한다. (JDK 21+)
+// 요청 처리 모델(thread-per-request)은 그대로라서 @Transactional 등 ThreadLocal 기반 동작은 바뀌지 않는다.
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "dmaker.execution.virtual-threads", havingValue = "true")
+public class VirtualThreadConfig implements WebMvcConfigurer, DisposableBean {
+    private final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            if (executor != null) {
+                protocolHandler.setExecutor(executor);
+            }
+        };
+    }
+
+    // StreamingResponseBody 같은 MVC 비동기 처리도 가상 스레드에서 실행한다.
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        if (executor != null) {
+            configurer.setTaskExecutor(new ConcurrentTaskExecutor(executor));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    // 컴파일 대상은 Java 11 이므로 reflection으로 호출한다.
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            log.info("virtual threads enabled for request execution");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            log.warn("virtual threads are not supported on Java {}, using platform threads",
+                    System.getProperty("java.version"));
+            return null;
+        }
+    }
+}
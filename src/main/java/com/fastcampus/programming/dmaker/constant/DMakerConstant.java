@@ -1,6 +1,68 @@
 package com.fastcampus.programming.dmaker.constant;
 
 public class DMakerConstant {
-    public static final Integer MIN_SEINOR_EXPERIENCE_YEARS = 10;
-    public static final Integer MAX_JUINOR_EXPERIENCE_YEARS = 4;
+    public static final int MIN_SEINOR_EXPERIENCE_YEARS = 10;
+    public static final int MAX_JUINOR_EXPERIENCE_YEARS = 4;
+
+    // 요청 필드 범위. 어노테이션(@Min/@Max/@Size)과 CreateDeveloper.violation 이 같이 쓴다.
+    public static final int MIN_EXPERIENCE_YEARS = 0;
+    public static final int MAX_EXPERIENCE_YEARS = 20;
+    public static final int MIN_MEMBER_ID_LENGTH = 3;
+    public static final int MAX_MEMBER_ID_LENGTH = 50;
+    public static final int MIN_NAME_LENGTH = 3;
+    public static final int MAX_NAME_LENGTH = 20;
+    public static final int MIN_AGE = 18;
+    // @Size message. 위 범위로 만든 상수식이라 어노테이션에도 쓸 수 있다.
+    public static final String MEMBER_ID_SIZE_MESSAGE =
+            "memberId size must " + MIN_MEMBER_ID_LENGTH + " to " + MAX_MEMBER_ID_LENGTH;
+    public static final String NAME_SIZE_MESSAGE = "memberId size must " + MIN_NAME_LENGTH + " to " + MAX_NAME_LENGTH;
+
+    // createDeveloper 중복 검사를 맡는 unique index (V2__developer_indexes.sql)
+    public static final String MEMBER_ID_UNIQUE_INDEX = "ux_developer_member_id";
+
+    // 어노테이션 속성에서 사용하기 때문에 문자열 상수로 둔다.
+    public static final String DEFAULT_PAGE_SIZE = "20";
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final String DEVELOPER_STREAM_FETCH_SIZE = "500";
+
+    public static final String DEVELOPER_DETAIL_CACHE = "developerDetail";
+    public static final String IDEMPOTENCY_KEY_CACHE = "idempotencyKey";
+    // hibernate second-level cache region (JpaConfig)
+    public static final String DEVELOPER_REGION = "developer";
+    public static final String DEVELOPER_NATURAL_ID_REGION = "developerNaturalId";
+    public static final String RETIRED_DEVELOPER_REGION = "retiredDeveloper";
+    public static final String DEVELOPER_STATUS_QUERY_REGION = "developerStatusQuery";
+
+    // metric 이름 (percentile 설정은 application.yml management.metrics.distribution)
+    public static final String SERVICE_TIMER = "dmaker.service";
+    public static final String ERROR_COUNTER = "dmaker.errors";
+    public static final String REQUEST_STATEMENTS = "dmaker.request.statements";
+    public static final String AUDIT_QUEUE = "dmaker.audit.queue";
+    public static final String AUDIT_WRITTEN = "dmaker.audit.written";
+    public static final String AUDIT_CALLER_RUNS = "dmaker.audit.caller.runs";
+    public static final String AUDIT_FAILED = "dmaker.audit.failed";
+    public static final String AUDIT_DROPPED = "dmaker.audit.dropped";
+    public static final String REQUESTS_REJECTED = "dmaker.requests.rejected";
+    public static final String CONCURRENCY_LIMIT = "dmaker.concurrency.limit";
+    public static final String CONCURRENCY_IN_FLIGHT = "dmaker.concurrency.in.flight";
+    public static final String DATASOURCE_ROUTED = "dmaker.datasource.routed";
+    public static final String REPLICA_FALLBACK = "dmaker.datasource.replica.fallback";
+    public static final String REPLICA_LAG = "dmaker.datasource.replica.lag";
+    public static final String REPLICA_AVAILABLE = "dmaker.datasource.replica.available";
+    public static final String ARCHIVE_RUN = "dmaker.archive.run";
+    public static final String ARCHIVED_DEVELOPERS = "dmaker.archive.developers";
+    public static final String EDITS_COALESCED = "dmaker.edit.coalesced";
+    public static final String EDITS_PENDING = "dmaker.edit.pending";
+    public static final String EDIT_FLUSHES = "dmaker.edit.flushes";
+    public static final String EDIT_FLUSH_FAILED = "dmaker.edit.flush.failed";
+    // max-retries 번 다시 시도해도 반영하지 못해 버린 edit 수 (0이 아니면 alert)
+    public static final String EDITS_DROPPED = "dmaker.edit.dropped";
+    // 버퍼에 모으는 사이 다른 경로로 바뀌어(삭제, bulk retire, 다른 인스턴스) 반영하지 않고 버린 flush 수
+    public static final String EDIT_CONFLICTS = "dmaker.edit.conflicts";
+
+    // 변경 이력(developer_audit)에 남길 요청자. 없으면 anonymous
+    public static final String ACTOR_HEADER = "X-Actor";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    // 앞단(gateway)이 인증한 클라이언트를 넣어 주는 header. dmaker.rate-limit.client-header 로 지정해야 쓴다.
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
 }
@@ -1,22 +1,46 @@
 package com.fastcampus.programming.dmaker.controller;
 
+import com.fastcampus.programming.dmaker.coalescing.DeveloperEditCoalescer;
 import com.fastcampus.programming.dmaker.dto.*;
 import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.idempotency.IdempotencyStore;
+import com.fastcampus.programming.dmaker.service.DeveloperBulkService;
+import com.fastcampus.programming.dmaker.service.DeveloperImportValidator;
 import com.fastcampus.programming.dmaker.service.DmakerService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Set;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEFAULT_PAGE_SIZE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.IDEMPOTENCY_KEY_HEADER;
 
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class DMakerController {
     private final DmakerService dmakerService;
+    private final DeveloperEditCoalescer developerEditCoalescer;
+    private final DeveloperBulkService developerBulkService;
+    private final DeveloperImportValidator developerImportValidator;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/developers")
     public List<DeveloperDto> getAllDevelopers() {
@@ -25,30 +49,165 @@ public class DMakerController {
         return dmakerService.getAllEmployedDevelopers();
     }
 
+    @GetMapping("/developers/page")
+    public DeveloperPageDto getDevelopersPage(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size
+    ) {
+        log.info("GET /developers/page HTTP/1.1");
+
+        return dmakerService.getEmployedDevelopers(cursor, size);
+    }
+
+    // 예) /developers/search?developerLevel=SENIOR&minExperienceYears=10&namePrefix=kim&size=20
+    @GetMapping("/developers/search")
+    public DeveloperPageDto searchDevelopers(final SearchDevelopers.Request request) {
+        log.info("GET /developers/search HTTP/1.1, request: {}", request);
+
+        return dmakerService.searchDevelopers(request);
+    }
+
+    // 증분 동기화: 응답의 nextCursor를 다음 요청의 since로 넘긴다.
+    @GetMapping("/developers/changes")
+    public DeveloperChangesDto getDeveloperChanges(
+            @RequestParam(required = false) final String since,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size
+    ) {
+        log.info("GET /developers/changes HTTP/1.1");
+
+        return dmakerService.getDeveloperChanges(since, size);
+    }
+
+    @GetMapping("/developers/stats")
+    public List<DeveloperCountDto> getDeveloperStats() {
+        log.info("GET /developers/stats HTTP/1.1");
+
+        return dmakerService.getDeveloperCounts();
+    }
+
+    @GetMapping(value = "/developers/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamDevelopers() {
+        log.info("GET /developers/stream HTTP/1.1");
+
+        // 한 줄에 DeveloperDto 하나씩, 읽는 즉시 응답으로 흘려보낸다.
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                dmakerService.streamEmployedDevelopers(developerDto -> {
+                    try {
+                        generator.writeObject(developerDto);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+
+    // ETag = version. If-None-Match 가 같으면 body 없이 304
     @GetMapping("/developer/{memberId}")
-    public DeveloperDetailDto getDeveloperDetail(@PathVariable final String memberId) {
+    public ResponseEntity<DeveloperDetailDto> getDeveloperDetail(@PathVariable final String memberId,
+                                                                 final WebRequest webRequest) {
         log.info("GET /developers HTTP/1.1");
 
-        return dmakerService.getDeveloperDetail(memberId);
+        DeveloperDetailDto developerDetail = dmakerService.getDeveloperDetail(memberId);
+        String eTag = DeveloperDetailDto.toETag(developerDetail.getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(developerDetail);
     }
 
+    // 변경 이력 (오래된 것부터). 변경자는 X-Actor 요청 헤더로 남긴다.
+    @GetMapping("/developer/{memberId}/history")
+    public DeveloperHistoryDto getDeveloperHistory(
+            @PathVariable final String memberId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size
+    ) {
+        log.info("GET /developer/{}/history HTTP/1.1", memberId);
+
+        return dmakerService.getDeveloperHistory(memberId, cursor, size);
+    }
+
+    // Idempotency-Key 가 있으면 같은 key의 재시도에는 처음 응답을 그대로 돌려준다.
     @PostMapping("/create-developer")
-    public CreateDeveloper.Response createDevelopers(@Valid @RequestBody final CreateDeveloper.Request request) {
+    public CreateDeveloper.Response createDevelopers(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+            @Valid @RequestBody final CreateDeveloper.Request request
+    ) {
         log.info("request: {}", request);
 
-        return dmakerService.createDeveloper(request);
+        if (idempotencyKey == null) {
+            return dmakerService.createDeveloper(request);
+        }
+        return idempotencyStore.execute(idempotencyKey, request.getMemberId(), request,
+                CreateDeveloper.Response.class, () -> dmakerService.createDeveloper(request));
+    }
+
+    @PostMapping(value = "/create-developers", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkCreateDeveloper.Response createDevelopers(
+            @RequestBody final List<CreateDeveloper.Request> requests
+    ) {
+        log.info("POST /create-developers HTTP/1.1 ({} developers)", requests.size());
+
+        return developerBulkService.createDevelopers(requests.iterator());
+    }
+
+    // 한 줄에 CreateDeveloper.Request 하나씩: 전체 요청을 메모리에 올리지 않고 batch-size 단위로 읽어 처리한다.
+    @PostMapping(value = "/create-developers", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkCreateDeveloper.Response createDevelopersFromStream(final InputStream body)
+            throws IOException {
+        log.info("POST /create-developers HTTP/1.1 (ndjson)");
+
+        try (MappingIterator<CreateDeveloper.Request> requests =
+                     objectMapper.readerFor(CreateDeveloper.Request.class).readValues(body)) {
+            return developerBulkService.createDevelopers(requests);
+        }
+    }
+
+    // 저장하지 않고 가져올 파일(NDJSON 또는 JSON 배열)의 행마다 /create-developers 와 같은 조건만 확인한다.
+    @PostMapping(value = "/validate-developers",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ValidateDevelopers.Response validateDevelopers(final InputStream body) throws IOException {
+        log.info("POST /validate-developers HTTP/1.1");
+
+        return developerImportValidator.validate(body);
     }
 
     @PutMapping("/developer/{memberId}")
-    public DeveloperDetailDto editDeveloper(@PathVariable final String memberId,
-                                            @Valid @RequestBody final EditDeveloper.Request request) {
+    // If-Match 가 현재 ETag와 다르면 412
+    // dmaker.edit-coalescing.enabled 이면 버퍼에 합쳐 두고 나중에 반영한다.
+    public ResponseEntity<DeveloperDetailDto> editDeveloper(
+            @PathVariable final String memberId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
+            @Valid @RequestBody final EditDeveloper.Request request
+    ) {
         log.info("GET /developers HTTP/1.1");
 
-        return dmakerService.editDeveloper(memberId, request);
+        Set<Long> expectedVersions = DeveloperDetailDto.fromETag(ifMatch);
+        DeveloperDetailDto developerDetail = developerEditCoalescer.isEnabled()
+                ? developerEditCoalescer.edit(memberId, request, expectedVersions)
+                : dmakerService.editDeveloper(memberId, request, expectedVersions);
+
+        return ResponseEntity.ok()
+                .eTag(DeveloperDetailDto.toETag(developerDetail.getVersion()))
+                .body(developerDetail);
     }
 
     @DeleteMapping("/developer/{memberId}")
     public DeveloperDetailDto deleteDeveloper(@PathVariable final String memberId) {
         return dmakerService.deleteDeveloper(memberId);
     }
+
+    @PostMapping("/retire-developers")
+    public RetireDevelopers.Response retireDevelopers(
+            @RequestBody final RetireDevelopers.Request request
+    ) {
+        log.info("POST /retire-developers HTTP/1.1");
+
+        return developerBulkService.retireDevelopers(request);
+    }
 }
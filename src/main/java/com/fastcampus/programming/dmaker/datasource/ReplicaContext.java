@@ -0,0 +1,31 @@
+package com.fastcampus.programming.dmaker.datasource;
+
+import java.util.function.Supplier;
+
+// 현재 스레드의 읽기 전용 트랜잭션도 primary에서 읽게 한다. ReplicaRouter가 connection을 고를 때 본다.
+// 읽은 값을 캐시(DeveloperDetailCache, second-level/query cache)에 넣는 조회에 쓴다.
+// (복제가 늦은 replica에서 변경 전 row를 읽어 캐시하면 무효화 뒤에도 TTL 동안 이전 값과 ETag가 나간다.)
+public final class ReplicaContext {
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReplicaContext() {
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY.get() != null;
+    }
+
+    // 트랜잭션은 task 안에서 시작하거나, 시작했더라도 아직 SQL을 실행하지 않았어야 한다. (LazyConnectionDataSourceProxy)
+    public static <T> T callOnPrimary(Supplier<T> task) {
+        if (isPrimaryRequired()) {
+            return task.get();
+        }
+
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            PRIMARY.remove();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.fastcampus.programming.dmaker.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DATASOURCE_ROUTED;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.REPLICA_AVAILABLE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.REPLICA_FALLBACK;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.REPLICA_LAG;
+
+// 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica 중 하나로, 나머지(쓰기, 트랜잭션 밖)는 primary로 보낸다.
+// replica 복제 지연(lag-query)이 max-lag를 넘거나 확인에 실패하면 다음 확인 때까지 그 replica는 고르지 않고,
+// 고를 replica가 없으면 primary에서 읽는다. (fallback)
+// 캐시를 채우는 조회는 ReplicaContext.callOnPrimary 로 primary에서 읽는다.
+@Slf4j
+public class ReplicaRouter implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+
+    private final Pool primary;
+    private final List<Pool> replicas;
+    private final ReplicaRoutingProperties.LoadBalancing loadBalancing;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final Counter fallback;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRouter(Pool primary, List<Pool> replicas, ReplicaRoutingProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.loadBalancing = properties.getLoadBalancing();
+        this.lagQuery = properties.getLagQuery();
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+        this.fallback = meterRegistry.counter(REPLICA_FALLBACK);
+
+        primary.register(meterRegistry);
+        for (Pool replica : replicas) {
+            replica.register(meterRegistry);
+            Gauge.builder(REPLICA_LAG, replica, Pool::getLagSeconds)
+                    .tag("pool", replica.name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder(REPLICA_AVAILABLE, replica, pool -> pool.available ? 1 : 0)
+                    .tag("pool", replica.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    public DataSource route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReplicaContext.isPrimaryRequired()) {
+            return primary.use();
+        }
+
+        Pool replica = selectReplica();
+        if (replica == null) {
+            fallback.increment();
+            return primary.use();
+        }
+        return replica.use();
+    }
+
+    // 고를 수 있는 replica가 없으면 null
+    private Pool selectReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+
+        // 같은 조건이면 돌아가면서 고른다.
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        Pool selected = null;
+        int selectedActive = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Pool candidate = replicas.get((start + i) % size);
+            if (!candidate.available) {
+                continue;
+            }
+            if (loadBalancing == ReplicaRoutingProperties.LoadBalancing.ROUND_ROBIN) {
+                return candidate;
+            }
+
+            int active = candidate.getActiveConnections();
+            if (active < selectedActive) {
+                selected = candidate;
+                selectedActive = active;
+            }
+        }
+        return selected;
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.datasource.replica.lag-check-interval}")
+    public void checkReplicas() {
+        for (Pool replica : replicas) {
+            boolean wasAvailable = replica.available;
+            try {
+                long lagMillis = measureLagMillis(replica.dataSource);
+                replica.lagMillis = lagMillis;
+                replica.available = lagMillis <= maxLagMillis;
+            } catch (SQLException | RuntimeException e) {
+                replica.available = false;
+                if (wasAvailable) {
+                    log.warn("replica {} lag check failed", replica.name, e);
+                }
+            }
+
+            if (replica.available != wasAvailable) {
+                log.info("replica {} {} (lag {}ms)", replica.name,
+                        replica.available ? "available" : "unavailable", replica.lagMillis);
+            }
+        }
+    }
+
+    // 결과가 없거나 null 이면 지연을 알 수 없으므로 쓰지 않는다.
+    private long measureLagMillis(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                if (!connection.isValid(1)) {
+                    throw new SQLException("invalid connection");
+                }
+                return 0;
+            }
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    throw new SQLException("lag query returned no rows");
+                }
+                double lagSeconds = resultSet.getDouble(1);
+                if (resultSet.wasNull()) {
+                    throw new SQLException("lag query returned null");
+                }
+                return (long) (lagSeconds * 1000);
+            }
+        }
+    }
+
+    public boolean isAvailable(String replicaName) {
+        return replicas.stream().anyMatch(replica -> replica.name.equals(replicaName) && replica.available);
+    }
+
+    @Override
+    public void close() {
+        for (Pool replica : replicas) {
+            replica.dataSource.close();
+        }
+        primary.dataSource.close();
+    }
+
+    public static class Pool {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private Counter routed;
+        // checkReplicas() 한 곳에서만 바꾼다. 처음 확인하기 전에는 쓰지 않는다.
+        private volatile boolean available;
+        private volatile long lagMillis;
+
+        public Pool(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void register(MeterRegistry meterRegistry) {
+            this.routed = Counter.builder(DATASOURCE_ROUTED).tag("pool", name).register(meterRegistry);
+        }
+
+        private DataSource use() {
+            routed.increment();
+            return dataSource;
+        }
+
+        // pool은 첫 connection을 꺼낼 때 시작된다.
+        private int getActiveConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+
+        private double getLagSeconds() {
+            return lagMillis / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.fastcampus.programming.dmaker.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// connection을 꺼낼 때마다 ReplicaRouter가 고른 pool에서 꺼낸다.
+// readOnly 여부는 트랜잭션이 시작된 뒤에 정해지므로 LazyConnectionDataSourceProxy 뒤에 둔다. (ReplicaDataSourceConfig)
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    private final ReplicaRouter replicaRouter;
+
+    public ReplicaRoutingDataSource(ReplicaRouter replicaRouter) {
+        this.replicaRouter = replicaRouter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return replicaRouter.route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return replicaRouter.route().getConnection(username, password);
+    }
+}
@@ -0,0 +1,44 @@
+package com.fastcampus.programming.dmaker.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// dmaker.datasource.replica (replica 목록을 list로 받기 위해 @Value 대신 쓴다.)
+// primary는 그대로 spring.datasource.* 를 쓴다.
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dmaker.datasource.replica")
+public class ReplicaRoutingProperties {
+    private boolean enabled;
+    private LoadBalancing loadBalancing = LoadBalancing.ROUND_ROBIN;
+    // replica 복제 지연(초)을 돌려주는 SQL. 없으면 연결만 확인하고 지연은 0으로 본다.
+    private String lagQuery;
+    // 지연이 이보다 크면 다음 확인 때까지 그 replica에서 읽지 않는다.
+    private Duration maxLag;
+    private Duration lagCheckInterval;
+    // replica connection을 기다리는 최대 시간 (replica가 죽었을 때 lag 확인이 오래 막히지 않도록 짧게 둔다.)
+    private Duration connectionTimeout;
+    private List<Pool> pools = new ArrayList<>();
+
+    public enum LoadBalancing {
+        ROUND_ROBIN,
+        // 사용 중인 connection이 가장 적은 replica
+        LEAST_BUSY
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        // hikaricp.* metric 의 pool 태그. 없으면 replica-{순번}
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
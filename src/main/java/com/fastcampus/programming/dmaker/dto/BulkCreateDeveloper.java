@@ -0,0 +1,53 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+public class BulkCreateDeveloper {
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private int createdCount;
+        private int failedCount;
+        // 요청 순서와 같은 순서의 건별 결과
+        private List<Result> results;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private String memberId;
+        private CreateDeveloper.Response developer;
+        private DMakerErrorCode errorCode;
+        private String errorMessage;
+
+        public static Result created(CreateDeveloper.Response developer) {
+            return Result.builder()
+                    .memberId(developer.getMemberId())
+                    .developer(developer)
+                    .build();
+        }
+
+        public static Result failed(String memberId, DMakerErrorCode errorCode, String errorMessage) {
+            return Result.builder()
+                    .memberId(memberId)
+                    .errorCode(errorCode)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+
+        public boolean isCreated() {
+            return developer != null;
+        }
+    }
+}
@@ -10,7 +10,14 @@ import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.*;
+
 public class CreateDeveloper {
+    // violation 에 넘길 숫자 필드가 없을 때 (Integer boxing 대신)
+    public static final int NO_VALUE = Integer.MIN_VALUE;
+    // violation 에 넘길 문자열 필드가 없을 때의 길이
+    public static final int NO_LENGTH = -1;
+
     @Getter
     @Setter
     @AllArgsConstructor
@@ -23,19 +30,54 @@ public class CreateDeveloper {
         @NotNull
         private DeveloperSkillType developerSkillType;
         @NotNull
-        @Min(0)
-        @Max(20)
+        @Min(MIN_EXPERIENCE_YEARS)
+        @Max(MAX_EXPERIENCE_YEARS)
         private Integer experienceYears;
 
         @NotNull
-        @Size(min=3, max=50, message="memberId size must 3 to 50")
+        @Size(min=MIN_MEMBER_ID_LENGTH, max=MAX_MEMBER_ID_LENGTH, message=MEMBER_ID_SIZE_MESSAGE)
         private String memberId;
         @NotNull
-        @Size(min=3, max=20, message="memberId size must 3 to 20")
+        @Size(min=MIN_NAME_LENGTH, max=MAX_NAME_LENGTH, message=NAME_SIZE_MESSAGE)
         private String name;
 
-        @Min(18)
+        @Min(MIN_AGE)
         private Integer age;
+
+        public String violation() {
+            return CreateDeveloper.violation(developerLevel, developerSkillType,
+                    experienceYears == null ? NO_VALUE : experienceYears,
+                    memberId == null ? NO_LENGTH : memberId.length(),
+                    name == null ? NO_LENGTH : name.length(),
+                    age == null ? NO_VALUE : age);
+        }
+    }
+
+    // Request 어노테이션과 같은 조건을 할당 없이 확인한다. (대량 요청용)
+    // 통과하면 null, 아니면 처음 어긋난 필드의 이유 (DMakerConstant 범위로 만든 상수식이라 할당이 없다.)
+    // 경력과 DeveloperLevel이 맞는지는 DeveloperLevel.isValidExperienceYears 로 따로 본다.
+    public static String violation(DeveloperLevel developerLevel, DeveloperSkillType developerSkillType,
+                                   int experienceYears, int memberIdLength, int nameLength, int age) {
+        String violation = EditDeveloper.violation(developerLevel, developerSkillType, experienceYears);
+        if (violation != null) {
+            return violation;
+        }
+        if (memberIdLength == NO_LENGTH) {
+            return "memberId: must not be null";
+        }
+        if (memberIdLength < MIN_MEMBER_ID_LENGTH || memberIdLength > MAX_MEMBER_ID_LENGTH) {
+            return "memberId: " + MEMBER_ID_SIZE_MESSAGE;
+        }
+        if (nameLength == NO_LENGTH) {
+            return "name: must not be null";
+        }
+        if (nameLength < MIN_NAME_LENGTH || nameLength > MAX_NAME_LENGTH) {
+            return "name: " + NAME_SIZE_MESSAGE;
+        }
+        if (age != NO_VALUE && age < MIN_AGE) {
+            return "age: must be greater than or equal to " + MIN_AGE;
+        }
+        return null;
     }
 
     @Getter
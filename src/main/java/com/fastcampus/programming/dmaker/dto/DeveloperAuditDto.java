@@ -0,0 +1,27 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class DeveloperAuditDto {
+    // 다음 페이지 cursor 용
+    @JsonIgnore
+    private Long id;
+    private DeveloperEventType eventType;
+    private String actor;
+    private LocalDateTime changedAt;
+    @JsonRawValue
+    private String before;
+    @JsonRawValue
+    private String after;
+}
@@ -0,0 +1,42 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class DeveloperChangeDto {
+    // sequence(publish_seq)는 shard 마다 매기므로 (shard, sequence)가 이벤트 하나를 가리킨다.
+    private Integer shard;
+    private Long sequence;
+    private DeveloperEventType eventType;
+    private String memberId;
+    private LocalDateTime occurredAt;
+    // outbox에 저장된 json을 다시 파싱하지 않고 그대로 내려준다.
+    @JsonRawValue
+    private String developer;
+
+    // JPQL constructor expression 용 (DeveloperOutboxRepository). shard는 읽은 쪽에서 채운다.
+    public DeveloperChangeDto(Long sequence, DeveloperEventType eventType, String memberId,
+                              LocalDateTime occurredAt, String developer) {
+        this(null, sequence, eventType, memberId, occurredAt, developer);
+    }
+
+    public static DeveloperChangeDto fromEntity(DeveloperOutboxEvent event) {
+        return DeveloperChangeDto.builder()
+                .sequence(event.getPublishSeq())
+                .eventType(event.getEventType())
+                .memberId(event.getMemberId())
+                .occurredAt(event.getCreatedAt())
+                .developer(event.getPayload())
+                .build();
+    }
+}
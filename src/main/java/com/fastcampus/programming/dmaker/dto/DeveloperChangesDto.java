@@ -0,0 +1,51 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperChangesDto {
+    private List<DeveloperChangeDto> changes;
+    // 다음 요청의 since. 변경이 없으면 요청한 since 그대로
+    private String nextCursor;
+
+    // cursor는 shard 번호 순의 shard 별 마지막 sequence ("12,7,30")
+    // shard 하나면 DeveloperPageDto.encodeCursor(sequence)와 같은 값이다.
+    public static String encodeCursor(long[] sequences) {
+        String value = Arrays.stream(sequences).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // shard를 늘리기 전에 받은 cursor면 새 shard는 처음부터 읽는다.
+    public static long[] decodeCursor(String cursor, int shardCount) {
+        long[] sequences = new long[shardCount];
+        if (cursor == null || cursor.isEmpty()) {
+            return sequences;
+        }
+
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",");
+            if (values.length > shardCount) {
+                throw new IllegalArgumentException("too many shards");
+            }
+            for (int shard = 0; shard < values.length; shard++) {
+                sequences[shard] = Long.parseLong(values[shard]);
+            }
+            return sequences;
+        } catch (IllegalArgumentException e) {
+            throw new DMakerException(INVALID_REQUEST, "cursor 값이 올바르지 않습니다.");
+        }
+    }
+}
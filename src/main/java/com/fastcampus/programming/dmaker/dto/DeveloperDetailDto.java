@@ -1,16 +1,21 @@
 package com.fastcampus.programming.dmaker.dto;
 
 import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.entity.ArchivedDeveloper;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
+import java.util.HashSet;
+import java.util.Set;
+
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class DeveloperDetailDto {
     private DeveloperLevel developerLevel;
     private DeveloperSkillType developerSkillType;
@@ -19,6 +24,9 @@ public class DeveloperDetailDto {
     private StatusCode statusCode;
     private String name;
     private Integer age;
+    // ETag 헤더로만 내려준다.
+    @JsonIgnore
+    private Long version;
 
     public static DeveloperDetailDto fromEntity(Developer developer) {
         return DeveloperDetailDto.builder()
@@ -29,7 +37,48 @@ public class DeveloperDetailDto {
                 .statusCode(developer.getStatusCode())
                 .name(developer.getName())
                 .age(developer.getAge())
+                .version(developer.getVersion())
+                .build();
+    }
+
+    public static DeveloperDetailDto fromArchived(ArchivedDeveloper archivedDeveloper) {
+        return DeveloperDetailDto.builder()
+                .developerLevel(archivedDeveloper.getDeveloperLevel())
+                .developerSkillType(archivedDeveloper.getDeveloperSkillType())
+                .experienceYears(archivedDeveloper.getExperienceYears())
+                .memberId(archivedDeveloper.getMemberId())
+                .statusCode(archivedDeveloper.getStatusCode())
+                .name(archivedDeveloper.getName())
+                .age(archivedDeveloper.getAge())
+                .version(archivedDeveloper.getVersion())
                 .build();
     }
 
+    public static String toETag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // If-Match 헤더 값("1", "2" 처럼 여러 개일 수 있다.) -> 그중 하나와 같으면 통과하는 version들
+    // 헤더가 없거나 * 이면 null (버전 확인 안 함)
+    // If-Match는 strong 비교라 weak(W/"1")나 이 서버가 만들지 않은 ETag는 어떤 version과도 맞지 않는다. (비어 있으면 412)
+    public static Set<Long> fromETag(String eTag) {
+        if (eTag == null || eTag.isBlank() || eTag.trim().equals("*")) {
+            return null;
+        }
+
+        Set<Long> versions = new HashSet<>();
+        for (String entry : eTag.split(",")) {
+            String value = entry.trim();
+            if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+                continue;
+            }
+            try {
+                versions.add(Long.parseLong(value.substring(1, value.length() - 1)));
+            } catch (NumberFormatException e) {
+                // 다른 서버가 만든 ETag
+            }
+        }
+        return versions;
+    }
+
 }
@@ -3,6 +3,7 @@ package com.fastcampus.programming.dmaker.dto;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 @Getter
@@ -15,12 +16,16 @@ public class DeveloperDto {
     private DeveloperLevel developerLevel;
     private DeveloperSkillType developerSkillType;
     private String memberId;
+    // keyset pagination cursor 용도로만 사용하고 응답에는 내리지 않는다.
+    @JsonIgnore
+    private Long id;
 
     public static DeveloperDto fromEntity(Developer developer) {
         return DeveloperDto.builder()
                 .developerLevel(developer.getDeveloperLevel())
                 .developerSkillType(developer.getDeveloperSkillType())
                 .memberId(developer.getMemberId())
+                .id(developer.getId())
                 .build();
     }
 }
@@ -0,0 +1,49 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperHistoryDto {
+    private String memberId;
+    private List<DeveloperAuditDto> history;
+    private String nextCursor;
+
+    // cursor는 마지막 이력의 (changedAt, id) ("2022-03-01T10:00:00.123,51")
+    public static String encodeCursor(DeveloperAuditDto last) {
+        String value = last.getChangedAt() + "," + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // cursor가 없으면 null (처음부터)
+    public static DeveloperAuditDto decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",");
+            if (values.length != 2) {
+                throw new IllegalArgumentException("not a history cursor");
+            }
+            return DeveloperAuditDto.builder()
+                    .changedAt(LocalDateTime.parse(values[0]))
+                    .id(Long.parseLong(values[1]))
+                    .build();
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new DMakerException(INVALID_REQUEST, "cursor 값이 올바르지 않습니다.");
+        }
+    }
+}
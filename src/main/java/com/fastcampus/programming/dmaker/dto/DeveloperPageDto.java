@@ -0,0 +1,40 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperPageDto {
+    private List<DeveloperDto> developers;
+    private String nextCursor;
+
+    // cursor는 클라이언트에게 불투명한 값으로 내려준다. (내부적으로는 마지막 id)
+    public static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+
+        try {
+            return Long.parseLong(new String(
+                    Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8
+            ));
+        } catch (IllegalArgumentException e) {
+            throw new DMakerException(INVALID_REQUEST, "cursor 값이 올바르지 않습니다.");
+        }
+    }
+}
@@ -10,6 +10,10 @@ import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_EXPERIENCE_YEARS;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MIN_EXPERIENCE_YEARS;
+import static com.fastcampus.programming.dmaker.dto.CreateDeveloper.NO_VALUE;
+
 public class EditDeveloper {
     @Getter
     @Setter
@@ -23,8 +27,34 @@ public class EditDeveloper {
         @NotNull
         private DeveloperSkillType developerSkillType;
         @NotNull
-        @Min(0)
-        @Max(20)
+        @Min(MIN_EXPERIENCE_YEARS)
+        @Max(MAX_EXPERIENCE_YEARS)
         private Integer experienceYears;
+
+        public String violation() {
+            return EditDeveloper.violation(developerLevel, developerSkillType,
+                    experienceYears == null ? NO_VALUE : experienceYears);
+        }
+    }
+
+    // Request 어노테이션과 같은 조건. 통과하면 null (CreateDeveloper.violation 참고)
+    public static String violation(DeveloperLevel developerLevel, DeveloperSkillType developerSkillType,
+                                   int experienceYears) {
+        if (developerLevel == null) {
+            return "developerLevel: must not be null";
+        }
+        if (developerSkillType == null) {
+            return "developerSkillType: must not be null";
+        }
+        if (experienceYears == NO_VALUE) {
+            return "experienceYears: must not be null";
+        }
+        if (experienceYears < MIN_EXPERIENCE_YEARS) {
+            return "experienceYears: must be greater than or equal to " + MIN_EXPERIENCE_YEARS;
+        }
+        if (experienceYears > MAX_EXPERIENCE_YEARS) {
+            return "experienceYears: must be less than or equal to " + MAX_EXPERIENCE_YEARS;
+        }
+        return null;
     }
 }
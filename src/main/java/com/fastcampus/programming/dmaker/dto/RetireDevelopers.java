@@ -0,0 +1,32 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+import java.util.List;
+
+public class RetireDevelopers {
+    // memberIds 또는 developerLevel/developerSkillType 필터 중 하나로 대상을 지정한다.
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @ToString
+    public static class Request {
+        private List<String> memberIds;
+        private DeveloperLevel developerLevel;
+        private DeveloperSkillType developerSkillType;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private int retiredCount;
+        private List<String> notFoundMemberIds;
+    }
+}
@@ -0,0 +1,30 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+public class SearchDevelopers {
+    // GET /developers/search query parameter. null 인 조건은 무시한다.
+    // (statusCode가 없으면 EMPLOYED, 범위 조건은 양 끝 포함)
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @ToString
+    public static class Request {
+        private DeveloperLevel developerLevel;
+        private DeveloperSkillType developerSkillType;
+        private Integer minExperienceYears;
+        private Integer maxExperienceYears;
+        private Integer minAge;
+        private Integer maxAge;
+        private StatusCode statusCode;
+        private String namePrefix;
+
+        private String cursor;
+        private Integer size;
+    }
+}
@@ -0,0 +1,34 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import lombok.*;
+
+import java.util.List;
+
+// POST /validate-developers : 저장하지 않고 가져올 파일의 각 행만 확인한다.
+public class ValidateDevelopers {
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private int validCount;
+        private int invalidCount;
+        // 통과하지 못한 행만 (요청 순서)
+        private List<Result> invalidRows;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Result {
+        // 0부터 시작하는 행 번호
+        private int index;
+        private String memberId;
+        private DMakerErrorCode errorCode;
+        private String errorMessage;
+    }
+}
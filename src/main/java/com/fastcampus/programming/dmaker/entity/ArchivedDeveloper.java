@@ -0,0 +1,47 @@
+package com.fastcampus.programming.dmaker.entity;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// DeveloperArchiver가 developer 테이블에서 옮긴 row. id, version 등 컬럼 값을 그대로 가진다.
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "archived_developer", indexes = {
+        @Index(name = "ix_archived_developer_member_id", columnList = "memberId")
+})
+public class ArchivedDeveloper {
+    @Id
+    protected Long id;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperLevel developerLevel;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperSkillType developerSkillType;
+
+    private Integer experienceYears;
+    private String memberId;
+    private String name;
+    private Integer age;
+
+    @Enumerated(EnumType.STRING)
+    private StatusCode statusCode;
+
+    private Long version;
+
+    private LocalDateTime createdAt;
+
+    // RETIRED 로 바뀐 시각
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime archivedAt;
+}
@@ -5,6 +5,10 @@ import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
 import com.fastcampus.programming.dmaker.code.StatusCode;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,16 +16,32 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import javax.persistence.*;
 import java.time.LocalDateTime;
 
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_NATURAL_ID_REGION;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_REGION;
+
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "ux_developer_member_id", columnList = "memberId", unique = true),
+        @Index(name = "ix_developer_status_code_id", columnList = "statusCode, id"),
+        @Index(name = "ix_developer_status_level_skill_id",
+                columnList = "statusCode, developerLevel, developerSkillType, id"),
+        @Index(name = "ix_developer_status_experience_years", columnList = "statusCode, experienceYears"),
+        @Index(name = "ix_developer_status_name", columnList = "statusCode, name"),
+        @Index(name = "ix_developer_status_updated_at", columnList = "statusCode, updatedAt")
+})
 @EntityListeners(AuditingEntityListener.class)
+// second-level cache: id -> Developer, memberId -> id (DeveloperNaturalIdRepository)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = DEVELOPER_REGION)
+@NaturalIdCache(region = DEVELOPER_NATURAL_ID_REGION)
 public class Developer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_seq")
+    @SequenceGenerator(name = "developer_seq", sequenceName = "developer_seq", allocationSize = 50)
     protected Long id;
 
     @Enumerated(EnumType.STRING)
@@ -31,6 +51,7 @@ public class Developer {
     private DeveloperSkillType developerSkillType;
 
     private Integer experienceYears;
+    @NaturalId
     private String memberId;
     private String name;
     private Integer age;
@@ -38,6 +59,10 @@ public class Developer {
     @Enumerated(EnumType.STRING)
     private StatusCode statusCode;
 
+    // 동시 수정 시 나중에 커밋하는 쪽이 실패한다. (row lock 없이 lost update 방지)
+    @Version
+    private Long version;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
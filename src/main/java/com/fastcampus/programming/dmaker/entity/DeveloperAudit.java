@@ -0,0 +1,40 @@
+package com.fastcampus.programming.dmaker.entity;
+
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "developer_audit", indexes = {
+        @Index(name = "ix_developer_audit_member_id_changed_at_id", columnList = "memberId, changedAt, id")
+})
+public class DeveloperAudit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_audit_seq")
+    @SequenceGenerator(name = "developer_audit_seq", sequenceName = "developer_audit_seq", allocationSize = 50)
+    protected Long id;
+
+    private String memberId;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperEventType eventType;
+
+    private String actor;
+
+    // 변경 전/후 DeveloperDetailDto (json). CREATED 는 before가 null
+    @Column(length = 4000)
+    private String beforeSnapshot;
+
+    @Column(length = 4000)
+    private String afterSnapshot;
+
+    // insert 시각이 아니라 변경이 commit 된 시각
+    private LocalDateTime changedAt;
+}
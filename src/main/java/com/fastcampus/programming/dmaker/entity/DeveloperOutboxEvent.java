@@ -0,0 +1,41 @@
+package com.fastcampus.programming.dmaker.entity;
+
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "developer_outbox", indexes = {
+        @Index(name = "ix_developer_outbox_publish_seq_id", columnList = "publishSeq, id")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class DeveloperOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_outbox_seq")
+    @SequenceGenerator(name = "developer_outbox_seq", sequenceName = "developer_outbox_seq", allocationSize = 50)
+    protected Long id;
+
+    private String memberId;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperEventType eventType;
+
+    // 변경 후 DeveloperDetailDto (json)
+    @Column(length = 4000)
+    private String payload;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    // 발행 전에는 null
+    private Long publishSeq;
+}
@@ -0,0 +1,23 @@
+package com.fastcampus.programming.dmaker.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+// DeveloperOutboxRelay: 인스턴스 간 발행 순서를 정하는 row 하나 (V10__developer_outbox_relay_lock.sql)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "developer_outbox_relay_lock")
+public class DeveloperOutboxRelayLock {
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    // 마지막으로 매긴 publish_seq
+    private Long lastPublishSeq;
+}
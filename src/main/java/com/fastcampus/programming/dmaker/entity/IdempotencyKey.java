@@ -0,0 +1,32 @@
+package com.fastcampus.programming.dmaker.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "idempotency_key", indexes = {
+        @Index(name = "ix_idempotency_key_expires_at", columnList = "expiresAt")
+})
+public class IdempotencyKey {
+    @Id
+    @Column(name = "idempotency_key")
+    private String key;
+
+    // 같은 key로 다른 요청을 보냈는지 확인하는 요청 body의 SHA-256
+    private String requestHash;
+
+    // 처음 응답 (json)
+    @Column(length = 4000)
+    private String response;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime expiresAt;
+}
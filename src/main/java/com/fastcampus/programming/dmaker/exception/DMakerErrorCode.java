@@ -2,6 +2,7 @@ package com.fastcampus.programming.dmaker.exception;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.http.HttpStatus;
 
 @Getter
 @AllArgsConstructor
@@ -9,10 +10,22 @@ public enum DMakerErrorCode {
     NO_DEVELOPER("해당되는 개발자가 없습니다."),
     DUPLICATED_MEMBER_ID("MemberId가 중복되는 개발자가 있습니다."),
     LEVEL_EXPERIENCE_YEARS_NOT_MATCHED("개발자 레벨과 연차가 맞지 않습니다."),
+    VERSION_NOT_MATCHED("개발자 정보가 변경되었습니다. 다시 조회한 뒤 수정해주세요.", HttpStatus.PRECONDITION_FAILED),
+    CONCURRENT_MODIFICATION("다른 요청이 먼저 개발자 정보를 수정했습니다.", HttpStatus.CONFLICT),
+    IDEMPOTENCY_KEY_IN_PROGRESS("같은 Idempotency-Key 요청을 처리하고 있습니다.", HttpStatus.CONFLICT),
+    IDEMPOTENCY_KEY_REUSED("Idempotency-Key가 다른 요청에 이미 사용되었습니다.", HttpStatus.UNPROCESSABLE_ENTITY),
+    TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    SERVICE_OVERLOADED("요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
     INTERNAL_SERVER_ERROR("서버에 오류가 발생했습니다."),
     INVALID_REQUEST("잘못된 요청입니다.")
     ;
 
     private final String message;
+    // 기존 에러 코드는 응답 body의 errorCode로만 구분한다. (200)
+    private final HttpStatus httpStatus;
+
+    DMakerErrorCode(String message) {
+        this(message, HttpStatus.OK);
+    }
 }
@@ -2,19 +2,18 @@ package com.fastcampus.programming.dmaker.exception;
 
 import lombok.Getter;
 
+// 요청이 잘못된 경우 등 예상된 업무 오류라서 stack trace를 만들지 않는다. (DMakerExceptionHandler도 쓰지 않는다.)
 @Getter
 public class DMakerException extends RuntimeException {
     private DMakerErrorCode dMakerErrorCode;
     private String detailMessage;
 
     public DMakerException(DMakerErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.dMakerErrorCode = errorCode;
-        this.detailMessage = errorCode.getMessage();
+        this(errorCode, errorCode.getMessage());
     }
 
     public DMakerException(DMakerErrorCode errorCode, String detailMessage) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
         this.dMakerErrorCode = errorCode;
         this.detailMessage = detailMessage;
     }
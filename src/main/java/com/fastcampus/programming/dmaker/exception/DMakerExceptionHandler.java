@@ -1,7 +1,11 @@
 package com.fastcampus.programming.dmaker.exception;
 
 import com.fastcampus.programming.dmaker.dto.DMakerErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -9,21 +13,43 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import javax.servlet.http.HttpServletRequest;
 
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.ERROR_COUNTER;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.CONCURRENT_MODIFICATION;
 import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.INTERNAL_SERVER_ERROR;
 import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class DMakerExceptionHandler {
+    private final MeterRegistry meterRegistry;
+
     //    @ResponseStatus(value = HttpStatus.CONFLICT)
     @ExceptionHandler(DMakerException.class)
-    public DMakerErrorResponse handleException(DMakerException e, HttpServletRequest request) {
+    public ResponseEntity<DMakerErrorResponse> handleException(DMakerException e, HttpServletRequest request) {
         log.error("errorCode: {}, url: {}, message: {}", e.getDMakerErrorCode(), request.getRequestURL(), e.getDetailMessage());
+        countError(e.getDMakerErrorCode());
 
-        return DMakerErrorResponse.builder()
-                .errorCode(e.getDMakerErrorCode())
-                .errorMessage(e.getDetailMessage())
-                .build();
+        return ResponseEntity.status(e.getDMakerErrorCode().getHttpStatus())
+                .body(DMakerErrorResponse.builder()
+                        .errorCode(e.getDMakerErrorCode())
+                        .errorMessage(e.getDetailMessage())
+                        .build());
+    }
+
+    // @Version 충돌: 같은 version을 읽은 다른 요청이 먼저 커밋한 경우
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<DMakerErrorResponse> handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException e, HttpServletRequest request
+    ) {
+        log.warn("errorCode: {}, url: {}, message: {}", CONCURRENT_MODIFICATION, request.getRequestURL(), e.getMessage());
+        countError(CONCURRENT_MODIFICATION);
+
+        return ResponseEntity.status(CONCURRENT_MODIFICATION.getHttpStatus())
+                .body(DMakerErrorResponse.builder()
+                        .errorCode(CONCURRENT_MODIFICATION)
+                        .errorMessage(CONCURRENT_MODIFICATION.getMessage())
+                        .build());
     }
 
     @ExceptionHandler(value = {
@@ -32,6 +58,7 @@ public class DMakerExceptionHandler {
     })
     public DMakerErrorResponse handleBadRequest(Exception e, HttpServletRequest request) {
         log.error("errorCode: url: {}, message: {}", request.getRequestURL(), e.getMessage());
+        countError(INVALID_REQUEST);
 
         return DMakerErrorResponse.builder()
                 .errorCode(INVALID_REQUEST)
@@ -42,10 +69,15 @@ public class DMakerExceptionHandler {
     @ExceptionHandler(Exception.class)
     public DMakerErrorResponse handleException(Exception e, HttpServletRequest request) {
         log.error("errorCode: url: {}, message: {}", request.getRequestURL(), e.getMessage());
+        countError(INTERNAL_SERVER_ERROR);
 
         return DMakerErrorResponse.builder()
                 .errorCode(INTERNAL_SERVER_ERROR)
                 .errorMessage(INTERNAL_SERVER_ERROR.getMessage())
                 .build();
     }
+
+    private void countError(DMakerErrorCode errorCode) {
+        meterRegistry.counter(ERROR_COUNTER, "errorCode", errorCode.name()).increment();
+    }
 }
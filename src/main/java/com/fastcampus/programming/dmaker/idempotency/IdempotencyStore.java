@@ -0,0 +1,187 @@
+package com.fastcampus.programming.dmaker.idempotency;
+
+import com.fastcampus.programming.dmaker.entity.IdempotencyKey;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.repository.IdempotencyKeyRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.*;
+
+// Idempotency-Key -> 첫 응답. 재시도는 action(개발자 테이블)을 다시 타지 않고 보관한 응답을 돌려준다.
+// 1차: 메모리(Caffeine, maximum-size / ttl), 2차(선택): idempotency_key 테이블
+// sharding을 켜면 key row는 action(memberId)과 같은 shard에 둔다. 조회도 그 shard에서, 만료 삭제는 모든 shard에서 한다.
+// (같은 key를 다른 memberId로 재사용하면 다른 shard를 보므로 2차에서는 IDEMPOTENCY_KEY_REUSED로 걸러지지 않는다.)
+@Slf4j
+public class IdempotencyStore {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, StoredResponse> cache;
+    // null 이면 메모리만 쓴다.
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DeveloperShards developerShards;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    // 이 인스턴스에서 처리 중인 key
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public IdempotencyStore(Cache<String, StoredResponse> cache,
+                            IdempotencyKeyRepository idempotencyKeyRepository,
+                            TransactionTemplate transactionTemplate,
+                            DeveloperShards developerShards,
+                            ObjectMapper objectMapper,
+                            Duration ttl) {
+        this.cache = cache;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.developerShards = developerShards;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    // memberId: action이 쓰는 developer. key row를 그 shard에 action과 같은 트랜잭션으로 insert 한다.
+    public <T> T execute(String key, String memberId, Object request, Class<T> responseType, Supplier<T> action) {
+        validateKey(key);
+        return developerShards.callFor(memberId, () -> executeOnShard(key, request, responseType, action));
+    }
+
+    private <T> T executeOnShard(String key, Object request, Class<T> responseType, Supplier<T> action) {
+        String requestHash = hash(request);
+        T replayed = replay(key, requestHash, responseType);
+        if (replayed != null) {
+            return replayed;
+        }
+
+        if (!inFlight.add(key)) {
+            throw new DMakerException(IDEMPOTENCY_KEY_IN_PROGRESS);
+        }
+        try {
+            // 먼저 처리하던 요청이 방금 끝났을 수 있다.
+            replayed = replay(key, requestHash, responseType);
+            if (replayed != null) {
+                return replayed;
+            }
+
+            return idempotencyKeyRepository == null ?
+                    store(key, requestHash, action.get()) :
+                    // key는 action과 같은 트랜잭션에서 insert 해서 둘 중 하나만 남는 일이 없게 한다.
+                    transactionTemplate.execute(status -> store(key, requestHash, action.get()));
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.idempotency.jdbc.cleanup-interval}")
+    public void deleteExpired() {
+        if (idempotencyKeyRepository == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        for (int shard = 0; shard < developerShards.getShardCount(); shard++) {
+            deleted += developerShards.callOn(shard, () -> transactionTemplate.execute(status ->
+                    idempotencyKeyRepository.deleteExpired(now)));
+        }
+        log.debug("deleted {} expired idempotency keys", deleted);
+    }
+
+    private <T> T replay(String key, String requestHash, Class<T> responseType) {
+        StoredResponse stored = lookup(key);
+        if (stored == null) {
+            return null;
+        }
+        if (!stored.getRequestHash().equals(requestHash)) {
+            throw new DMakerException(IDEMPOTENCY_KEY_REUSED);
+        }
+
+        try {
+            return objectMapper.readValue(stored.getResponse(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private StoredResponse lookup(String key) {
+        StoredResponse stored = cache.getIfPresent(key);
+        if (stored != null || idempotencyKeyRepository == null) {
+            return stored;
+        }
+
+        return idempotencyKeyRepository.findUnexpired(key, LocalDateTime.now())
+                .map(IdempotencyStore::toStoredResponse)
+                .map(found -> {
+                    cache.put(key, found);
+                    return found;
+                })
+                .orElse(null);
+    }
+
+    private <T> T store(String key, String requestHash, T response) {
+        StoredResponse stored = new StoredResponse(requestHash, toJson(response));
+        if (idempotencyKeyRepository == null) {
+            cache.put(key, stored);
+            return response;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyKeyRepository.deleteExpired(key, now);
+        idempotencyKeyRepository.insertKey(key, requestHash, stored.getResponse(), now, now.plus(ttl));
+        // 롤백되면 메모리에도 남기지 않는다.
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        cache.put(key, stored);
+                    }
+                });
+
+        return response;
+    }
+
+    private static StoredResponse toStoredResponse(IdempotencyKey idempotencyKey) {
+        return new StoredResponse(idempotencyKey.getRequestHash(), idempotencyKey.getResponse());
+    }
+
+    private static void validateKey(String key) {
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new DMakerException(INVALID_REQUEST, "Idempotency-Key는 1~255자여야 합니다.");
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
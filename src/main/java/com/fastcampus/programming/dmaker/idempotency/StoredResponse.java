@@ -0,0 +1,12 @@
+package com.fastcampus.programming.dmaker.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Idempotency-Key 별로 보관하는 첫 요청의 hash와 응답(json)
+@Getter
+@AllArgsConstructor
+public class StoredResponse {
+    private final String requestHash;
+    private final String response;
+}
@@ -0,0 +1,23 @@
+package com.fastcampus.programming.dmaker.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// SQL 문 실행 시간(ms)을 모아두었다가 주기적으로 평균을 꺼내간다. (AdaptiveConcurrencyLimiter)
+// 쿼리마다 호출되므로 LongAdder로 스레드 간 경합 없이 더한다.
+public class DbLatencySampler {
+    private final LongAdder totalMillis = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+
+    public void record(long elapsedMillis) {
+        totalMillis.add(elapsedMillis);
+        statements.increment();
+    }
+
+    // 지난 호출 이후 평균 실행 시간(ms). 실행된 SQL이 없으면 -1
+    public double drainAverageMillis() {
+        long count = statements.sumThenReset();
+        long total = totalMillis.sumThenReset();
+
+        return count == 0 ? -1 : (double) total / count;
+    }
+}
@@ -0,0 +1,55 @@
+package com.fastcampus.programming.dmaker.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.REQUEST_STATEMENTS;
+
+// 요청 하나가 실행한 SQL 문 개수를 uri(패턴), 종류 별 분포로 남긴다. (N+1 회귀 확인용)
+// 개수는 DataSourceProxyConfig의 datasource-proxy가 스레드 단위로 센다.
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain
+    ) throws ServletException, IOException {
+        QueryCountHolder.clear();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCount count = QueryCountHolder.getGrandTotal();
+            QueryCountHolder.clear();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            record(request.getMethod(), uri, "select", count.getSelect());
+            record(request.getMethod(), uri, "insert", count.getInsert());
+            record(request.getMethod(), uri, "update", count.getUpdate());
+            record(request.getMethod(), uri, "delete", count.getDelete());
+            record(request.getMethod(), uri, "other", count.getOther());
+        }
+    }
+
+    private void record(String method, String uri, String type, long statements) {
+        DistributionSummary.builder(REQUEST_STATEMENTS)
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(statements);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fastcampus.programming.dmaker.outbox;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperChangeDto;
+
+import java.util.List;
+
+// DeveloperOutboxRelay가 발행한 이벤트를 받는 곳 (dmaker.outbox.sink)
+// 예외를 던지면 해당 batch는 발행되지 않은 것으로 남고 다음 주기에 다시 보낸다. (at-least-once)
+public interface DeveloperEventSink {
+    void publish(List<DeveloperChangeDto> changes);
+}
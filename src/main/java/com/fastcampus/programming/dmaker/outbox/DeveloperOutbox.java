@@ -0,0 +1,53 @@
+package com.fastcampus.programming.dmaker.outbox;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.fastcampus.programming.dmaker.repository.DeveloperOutboxRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 개발자 변경 이벤트를 변경과 같은 트랜잭션에서 developer_outbox에 기록한다.
+// (변경이 롤백되면 이벤트도 남지 않는다.)
+@Component
+@RequiredArgsConstructor
+public class DeveloperOutbox {
+    private final DeveloperOutboxRepository developerOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DeveloperEventType eventType, DeveloperDetailDto developer) {
+        developerOutboxRepository.save(toEvent(eventType, developer));
+    }
+
+    // 대량 처리용: sequence id 라서 batch insert 된다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(DeveloperEventType eventType, Collection<DeveloperDetailDto> developers) {
+        List<DeveloperOutboxEvent> events = new ArrayList<>(developers.size());
+        for (DeveloperDetailDto developer : developers) {
+            events.add(toEvent(eventType, developer));
+        }
+        developerOutboxRepository.saveAll(events);
+    }
+
+    private DeveloperOutboxEvent toEvent(DeveloperEventType eventType, DeveloperDetailDto developer) {
+        try {
+            return DeveloperOutboxEvent.builder()
+                    .memberId(developer.getMemberId())
+                    .eventType(eventType)
+                    .payload(objectMapper.writeValueAsString(developer))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
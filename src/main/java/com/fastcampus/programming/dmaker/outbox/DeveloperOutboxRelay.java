@@ -0,0 +1,105 @@
+package com.fastcampus.programming.dmaker.outbox;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperChangeDto;
+import com.fastcampus.programming.dmaker.entity.DeveloperOutboxEvent;
+import com.fastcampus.programming.dmaker.entity.DeveloperOutboxRelayLock;
+import com.fastcampus.programming.dmaker.repository.DeveloperOutboxRelayLockRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperOutboxRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.shard.ShardContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 미발행 outbox 이벤트를 batch-size 단위로 sink에 보내고 publish_seq를 매긴다.
+// 모든 인스턴스에서 relay가 돌아도 되도록 batch 마다 developer_outbox_relay_lock row를 select ... for update 로 잡는다.
+// (같은 DB에서는 한 번에 한 relay만 발행하고, publish_seq는 그 row의 last_publish_seq 다음 번호부터 매긴다.
+//  DB sequence로 매기면 먼저 번호를 받은 batch가 늦게 커밋될 때 cursor가 그 이벤트들을 건너뛴다.)
+// sharding 시 outbox는 개발자 변경과 같은 shard에 쌓이므로 shard 마다 차례로 발행한다.
+// (publish_seq도 shard 별이라 변경 조회 cursor는 shard 별 마지막 sequence를 담는다. DmakerService.getDeveloperChanges)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dmaker.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class DeveloperOutboxRelay {
+    private final DeveloperOutboxRepository developerOutboxRepository;
+    private final DeveloperOutboxRelayLockRepository developerOutboxRelayLockRepository;
+    private final List<DeveloperEventSink> sinks;
+    private final DeveloperShards developerShards;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public DeveloperOutboxRelay(
+            DeveloperOutboxRepository developerOutboxRepository,
+            DeveloperOutboxRelayLockRepository developerOutboxRelayLockRepository,
+            ObjectProvider<DeveloperEventSink> sinks,
+            DeveloperShards developerShards,
+            PlatformTransactionManager transactionManager,
+            @Value("${dmaker.outbox.relay.batch-size}") int batchSize
+    ) {
+        this.developerOutboxRepository = developerOutboxRepository;
+        this.developerOutboxRelayLockRepository = developerOutboxRelayLockRepository;
+        this.sinks = sinks.orderedStream().collect(Collectors.toList());
+        this.developerShards = developerShards;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.outbox.relay.interval}")
+    public void relay() {
+        for (int shard = 0; shard < developerShards.getShardCount(); shard++) {
+            developerShards.callOn(shard, () -> {
+                int published;
+                do {
+                    try {
+                        published = transactionTemplate.execute(status -> relayBatch());
+                    } catch (PessimisticLockingFailureException e) {
+                        // 다른 인스턴스가 오래 발행 중이다. 다음 주기에 다시 한다.
+                        log.debug("outbox relay lock is held by another instance: {}", e.getMessage());
+                        published = 0;
+                    }
+                } while (published == batchSize);
+                return null;
+            });
+        }
+    }
+
+    // sink 발행과 publish_seq 기록을 한 트랜잭션에서 한다.
+    // sink가 실패하면 롤백되어 다음 주기에 다시 발행하고, 커밋이 실패하면 중복 발행될 수 있다.
+    private int relayBatch() {
+        // lock을 잡은 뒤에 미발행 이벤트를 읽어야 앞 relay가 발행한 이벤트를 다시 읽지 않는다.
+        DeveloperOutboxRelayLock lock = developerOutboxRelayLockRepository.findForUpdate(DeveloperOutboxRelayLock.ID)
+                .orElseThrow(() -> new IllegalStateException("developer_outbox_relay_lock row is missing"));
+        List<DeveloperOutboxEvent> events = developerOutboxRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        long publishSeq = lock.getLastPublishSeq();
+        int shard = ShardContext.currentShard();
+        List<DeveloperChangeDto> changes = new ArrayList<>(events.size());
+        for (DeveloperOutboxEvent event : events) {
+            event.setPublishSeq(++publishSeq);
+            DeveloperChangeDto change = DeveloperChangeDto.fromEntity(event);
+            change.setShard(shard);
+            changes.add(change);
+        }
+        lock.setLastPublishSeq(publishSeq);
+        for (DeveloperEventSink sink : sinks) {
+            sink.publish(changes);
+        }
+        log.debug("published {} developer events, last sequence: {}", events.size(), publishSeq);
+
+        return events.size();
+    }
+}
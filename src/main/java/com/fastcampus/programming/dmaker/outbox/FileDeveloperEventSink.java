@@ -0,0 +1,39 @@
+package com.fastcampus.programming.dmaker.outbox;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperChangeDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// 로컬 연동 확인용: 파일 끝에 한 줄에 이벤트 하나씩(ndjson) 붙여 쓴다.
+public class FileDeveloperEventSink implements DeveloperEventSink {
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileDeveloperEventSink(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<DeveloperChangeDto> changes) {
+        try (OutputStream outputStream = Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            for (DeveloperChangeDto change : changes) {
+                generator.writeObject(change);
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.fastcampus.programming.dmaker.outbox;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperChangeDto;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+// 로컬/테스트용: 최근 capacity 건만 메모리에 보관한다.
+public class InMemoryDeveloperEventSink implements DeveloperEventSink {
+    private final int capacity;
+    private final Deque<DeveloperChangeDto> changes = new ArrayDeque<>();
+
+    public InMemoryDeveloperEventSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<DeveloperChangeDto> published) {
+        for (DeveloperChangeDto change : published) {
+            if (changes.size() == capacity) {
+                changes.removeFirst();
+            }
+            changes.addLast(change);
+        }
+    }
+
+    public synchronized List<DeveloperChangeDto> getChanges() {
+        return new ArrayList<>(changes);
+    }
+}
@@ -0,0 +1,84 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import com.fastcampus.programming.dmaker.metrics.DbLatencySampler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 동시에 처리하는 요청 수 제한. DB 지연(SQL 평균 실행 시간)이 target-latency를 넘으면 limit을 backoff-ratio 만큼 줄이고,
+// 지연이 정상인데 limit까지 찬 적이 있으면 1씩 늘린다. (AIMD)
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+    private final DbLatencySampler dbLatencySampler;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double targetLatencyMillis;
+    private final double backoffRatio;
+
+    // adjust() 한 곳에서만 바꾼다.
+    private volatile int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean saturated = new AtomicBoolean();
+
+    public AdaptiveConcurrencyLimiter(DbLatencySampler dbLatencySampler, RateLimitProperties.Concurrency properties) {
+        this.dbLatencySampler = dbLatencySampler;
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.targetLatencyMillis = properties.getTargetLatency().toMillis();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.limit = properties.getInitialLimit();
+    }
+
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                markSaturated();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        if (current + 1 >= limit) {
+            markSaturated();
+        }
+        return true;
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.rate-limit.concurrency.adjust-interval}")
+    public void adjust() {
+        double averageMillis = dbLatencySampler.drainAverageMillis();
+        boolean wasSaturated = saturated.getAndSet(false);
+        int current = limit;
+        if (averageMillis > targetLatencyMillis) {
+            limit = Math.max(minLimit, (int) (current * backoffRatio));
+        } else if (wasSaturated) {
+            limit = Math.min(maxLimit, current + 1);
+        }
+
+        if (limit != current) {
+            log.info("concurrency limit {} -> {} (db latency avg {}ms)", current, limit, averageMillis);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // 요청마다 같은 cache line에 쓰지 않도록 바뀔 때만 쓴다.
+    private void markSaturated() {
+        if (!saturated.get()) {
+            saturated.set(true);
+        }
+    }
+}
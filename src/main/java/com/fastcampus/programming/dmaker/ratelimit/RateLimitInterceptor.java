@@ -0,0 +1,98 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.REQUESTS_REJECTED;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.SERVICE_OVERLOADED;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.TOO_MANY_REQUESTS;
+
+// handlerType 컨트롤러 요청 앞에서
+// 1. (클라이언트, HTTP method + 매핑 pattern) 별 token bucket이 비어 있으면 429
+// 2. 동시 요청 수가 AdaptiveConcurrencyLimiter limit에 닿아 있으면 503
+// 응답은 DMakerExceptionHandler가 만든다. (dmaker.errors 에도 집계된다.)
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".permit";
+    private static final int MAX_CLIENT_LENGTH = 64;
+
+    private final Class<?> handlerType;
+    private final RateLimiter rateLimiter;
+    // null 이면 동시 요청 수는 제한하지 않는다.
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final MeterRegistry meterRegistry;
+    // null 이면 IP (RateLimitProperties.clientHeader)
+    private final String clientHeader;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 응답(/developers/stream)의 두 번째 dispatch는 처음 요청에서 이미 통과했다.
+        if (request.getDispatcherType() == DispatcherType.ASYNC
+                || !(handler instanceof HandlerMethod)
+                || ((HandlerMethod) handler).getBeanType() != handlerType) {
+            return true;
+        }
+
+        String endpoint = endpointOf(request, (HandlerMethod) handler);
+        long waitNanos = rateLimiter.tryAcquire(clientOf(request), endpoint);
+        if (waitNanos > 0) {
+            reject(response, endpoint, "rate", TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+            throw new DMakerException(TOO_MANY_REQUESTS);
+        }
+
+        if (concurrencyLimiter != null) {
+            if (!concurrencyLimiter.tryAcquire()) {
+                reject(response, endpoint, "concurrency", 1);
+                throw new DMakerException(SERVICE_OVERLOADED);
+            }
+            request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        }
+        return true;
+    }
+
+    // 비동기 응답은 처음 dispatch가 아니라 마지막 dispatch가 끝날 때 호출된다.
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            concurrencyLimiter.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response, String endpoint, String reason, long retryAfterSeconds) {
+        meterRegistry.counter(REQUESTS_REJECTED, "endpoint", endpoint, "reason", reason).increment();
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    }
+
+    // "GET /developer/{memberId}": 메서드 이름으로 나누면 이름이 같은 다른 매핑이 한 버킷을 같이 쓴다.
+    // (path variable 값이 아니라 매핑 pattern 이라 버킷 수가 늘지 않는다.)
+    private static String endpointOf(HttpServletRequest request, HandlerMethod handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return handler.getMethod().getName();
+        }
+        return request.getMethod() + ' ' + pattern;
+    }
+
+    // clientHeader 값, 없으면 IP
+    // load balancer 뒤에서도 remoteAddr는 실제 클라이언트 주소다. (server.forward-headers-strategy)
+    private String clientOf(HttpServletRequest request) {
+        String clientId = clientHeader == null ? null : request.getHeader(clientHeader);
+        if (!StringUtils.hasText(clientId)) {
+            return request.getRemoteAddr();
+        }
+        return clientId.length() > MAX_CLIENT_LENGTH ? clientId.substring(0, MAX_CLIENT_LENGTH) : clientId;
+    }
+}
@@ -0,0 +1,46 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// dmaker.rate-limit (매핑 별 limit을 map으로 받기 위해 @Value 대신 쓴다.)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dmaker.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled;
+    // 신뢰할 수 있는 앞단이 넣어 주는 클라이언트 구분 header. 비어 있으면 header는 보지 않고 IP로 나눈다.
+    // (클라이언트가 직접 보내는 header를 쓰면 값을 바꿔 가며 limit을 피할 수 있다.)
+    private String clientHeader;
+    private Limit defaultLimit = new Limit();
+    // "HTTP method 매핑 pattern" -> limit (yml에서는 "[GET /developers]" 처럼 대괄호로 감싼다.)
+    private Map<String, Limit> limits = new HashMap<>();
+    // 클라이언트 x 매핑 버킷 최대 개수 (오래 안 쓴 버킷부터 버린다.)
+    private long maximumBuckets;
+    private Duration bucketExpireAfterAccess;
+    private Concurrency concurrency = new Concurrency();
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity;
+        private double refillPerSecond;
+    }
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+        private boolean enabled;
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        // SQL 문 평균 실행 시간이 이보다 길면 limit을 줄인다.
+        private Duration targetLatency;
+        private double backoffRatio;
+    }
+}
@@ -0,0 +1,25 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+// (클라이언트, 매핑) 별 TokenBucket. 버킷은 Caffeine에 두어서 조회에 전역 lock이 없고 개수도 제한된다.
+@RequiredArgsConstructor
+public class RateLimiter {
+    private final Cache<String, TokenBucket> buckets;
+    private final RateLimitProperties.Limit defaultLimit;
+    private final Map<String, RateLimitProperties.Limit> limits;
+
+    // 토큰을 얻으면 0, 아니면 다음 토큰까지 남은 시간(ns)
+    public long tryAcquire(String client, String endpoint) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(client + ' ' + endpoint, key -> {
+            RateLimitProperties.Limit limit = limits.getOrDefault(endpoint, defaultLimit);
+            return new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now);
+        });
+
+        return bucket.tryAcquire(now);
+    }
+}
@@ -0,0 +1,36 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// capacity 만큼 몰아서 쓸 수 있고 초당 refillPerSecond 개씩 채워지는 token bucket.
+// 남은 토큰 수 대신 "버킷이 가득 차는 시각"(GCRA의 TAT) 하나만 두어서 AtomicLong CAS 한 번으로 처리한다. (lock 없음)
+public class TokenBucket {
+    private final long nanosPerToken;
+    // 가득 찬 버킷을 다 쓰는 데 걸리는 시간 (capacity - 1 개 만큼 먼저 쓸 수 있다.)
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity >= 1, refillPerSecond > 0");
+        }
+        this.nanosPerToken = (long) Math.ceil(1_000_000_000L / refillPerSecond);
+        this.burstNanos = nanosPerToken * (capacity - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    // 토큰을 얻으면 0, 아니면 다음 토큰까지 남은 시간(ns)
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long from = Math.max(arrival, nowNanos);
+            long waitNanos = from - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, from + nanosPerToken)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperCountDto;
+import com.fastcampus.programming.dmaker.entity.ArchivedDeveloper;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedDeveloperRepository extends JpaRepository<ArchivedDeveloper, Long> {
+    // 같은 memberId로 다시 생성한 뒤 옮겨진 row가 여럿일 수 없으므로(createDeveloper 중복 검사) 하나만 있다.
+    Optional<ArchivedDeveloper> findByMemberId(String memberId);
+
+    boolean existsByMemberId(String memberId);
+
+    @Query("select a.memberId from ArchivedDeveloper a where a.memberId in :memberIds")
+    List<String> findMemberIdsByMemberIdIn(@Param("memberIds") Collection<String> memberIds);
+
+    // DeveloperStats: developer 테이블의 집계에 더한다.
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperCountDto(" +
+            "a.developerLevel, a.developerSkillType, a.statusCode, count(a)) " +
+            "from ArchivedDeveloper a group by a.developerLevel, a.developerSkillType, a.statusCode")
+    List<DeveloperCountDto> countArchivedDevelopersGroupByLevelAndSkillTypeAndStatusCode();
+
+    // INSERT ... SELECT: id 를 포함해 developer row를 그대로 복사한다.
+    // 후보를 고른 뒤 바뀐 row는 옮기지 않는다. (developer delete 와 같은 조건)
+    @Modifying
+    @Query("insert into ArchivedDeveloper (id, developerLevel, developerSkillType, experienceYears, memberId, " +
+            "name, age, statusCode, version, createdAt, updatedAt, archivedAt) " +
+            "select d.id, d.developerLevel, d.developerSkillType, d.experienceYears, d.memberId, " +
+            "d.name, d.age, d.statusCode, d.version, d.createdAt, d.updatedAt, :now " +
+            "from Developer d where d.memberId in :memberIds " +
+            "and d.statusCode = :statusCode and d.updatedAt < :before")
+    int insertArchivedDevelopers(
+            @Param("memberIds") Collection<String> memberIds,
+            @Param("statusCode") StatusCode statusCode, @Param("before") LocalDateTime before,
+            @Param("now") LocalDateTime now
+    );
+}
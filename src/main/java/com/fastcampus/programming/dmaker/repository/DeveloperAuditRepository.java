@@ -0,0 +1,32 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperAuditDto;
+import com.fastcampus.programming.dmaker.entity.DeveloperAudit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DeveloperAuditRepository extends JpaRepository<DeveloperAudit, Long> {
+    // ix_developer_audit_member_id_changed_at_id 를 타는 keyset 조회 (오래된 것부터)
+    // id는 pooled sequence라 인스턴스마다 블록이 달라 변경 순서가 아니다. changedAt 순, 같으면 id 순
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperAuditDto(" +
+            "a.id, a.eventType, a.actor, a.changedAt, a.beforeSnapshot, a.afterSnapshot) " +
+            "from DeveloperAudit a where a.memberId = :memberId order by a.changedAt, a.id")
+    List<DeveloperAuditDto> findAuditDtosByMemberId(@Param("memberId") String memberId, Pageable pageable);
+
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperAuditDto(" +
+            "a.id, a.eventType, a.actor, a.changedAt, a.beforeSnapshot, a.afterSnapshot) " +
+            "from DeveloperAudit a where a.memberId = :memberId " +
+            "and (a.changedAt > :changedAt or (a.changedAt = :changedAt and a.id > :id)) " +
+            "order by a.changedAt, a.id")
+    List<DeveloperAuditDto> findAuditDtosByMemberIdAfter(
+            @Param("memberId") String memberId, @Param("changedAt") LocalDateTime changedAt,
+            @Param("id") Long id, Pageable pageable
+    );
+}
@@ -0,0 +1,11 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.entity.Developer;
+
+import java.util.Optional;
+
+// memberId(@NaturalId) 조회 custom repository fragment
+// findByMemberId(JPQL)와 달리 second-level cache(natural id -> id -> Developer)에 있으면 SQL 없이 읽는다.
+public interface DeveloperNaturalIdRepository {
+    Optional<Developer> loadByMemberId(String memberId);
+}
@@ -0,0 +1,23 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.entity.Developer;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class DeveloperNaturalIdRepositoryImpl implements DeveloperNaturalIdRepository {
+    private final EntityManager entityManager;
+
+    // 호출한 쪽에 트랜잭션이 없으면(getDeveloperDetail) readOnly 트랜잭션에서 읽는다. (findByMemberId 와 같게)
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Developer> loadByMemberId(String memberId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Developer.class)
+                .loadOptional(memberId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.entity.DeveloperOutboxRelayLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+@Repository
+public interface DeveloperOutboxRelayLockRepository extends JpaRepository<DeveloperOutboxRelayLock, Integer> {
+    // select ... for update. 다른 인스턴스의 relay가 잡고 있으면 커밋/롤백할 때까지 기다린다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from DeveloperOutboxRelayLock l where l.id = :id")
+    Optional<DeveloperOutboxRelayLock> findForUpdate(@Param("id") Integer id);
+}
@@ -0,0 +1,27 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperChangeDto;
+import com.fastcampus.programming.dmaker.entity.DeveloperOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DeveloperOutboxRepository extends JpaRepository<DeveloperOutboxEvent, Long> {
+    // 기록된 순서(id)대로 발행한다.
+    @Query("select o from DeveloperOutboxEvent o where o.publishSeq is null order by o.id")
+    List<DeveloperOutboxEvent> findUnpublished(Pageable pageable);
+
+    @Query("select coalesce(max(o.publishSeq), 0) from DeveloperOutboxEvent o")
+    long findMaxPublishSeq();
+
+    // 발행된 이벤트만 publish_seq 순으로 (commit 순서가 id 순서와 달라도 빠지는 이벤트가 없다.)
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperChangeDto(" +
+            "o.publishSeq, o.eventType, o.memberId, o.createdAt, o.payload) " +
+            "from DeveloperOutboxEvent o where o.publishSeq > :since order by o.publishSeq")
+    List<DeveloperChangeDto> findChangesByPublishSeqGreaterThan(@Param("since") Long since, Pageable pageable);
+}
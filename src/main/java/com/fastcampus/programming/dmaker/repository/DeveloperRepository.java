@@ -1,15 +1,136 @@
 package com.fastcampus.programming.dmaker.repository;
 
 import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperCountDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
 import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_STATUS_QUERY_REGION;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_STREAM_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface DeveloperRepository extends JpaRepository<Developer, Long> {
+public interface DeveloperRepository
+        extends JpaRepository<Developer, Long>, DeveloperSearchRepository, DeveloperNaturalIdRepository {
     Optional<Developer> findByMemberId(String memeberId);
     List<Developer> findDevelopersByStatusCodeEquals(StatusCode statusCode);
+
+    @Query("select d.memberId from Developer d where d.memberId in :memberIds")
+    List<String> findMemberIdsByMemberIdIn(@Param("memberIds") Collection<String> memberIds);
+
+    @Modifying
+    @Query("update Developer d set d.statusCode = :statusCode, d.updatedAt = :now, d.version = d.version + 1 " +
+            "where d.memberId in :memberIds")
+    int updateStatusCodeByMemberIdIn(
+            @Param("memberIds") Collection<String> memberIds,
+            @Param("statusCode") StatusCode statusCode,
+            @Param("now") LocalDateTime now
+    );
+
+    // DTO projection: 엔티티를 만들지 않고 필요한 컬럼만 바로 DeveloperDto로 읽는다.
+    // query cache: developer 테이블이 바뀌면(update timestamps) 다음 조회에서 다시 읽는다.
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = DEVELOPER_STATUS_QUERY_REGION)
+    })
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDto(" +
+            "d.developerLevel, d.developerSkillType, d.memberId, d.id) " +
+            "from Developer d where d.statusCode = :statusCode")
+    List<DeveloperDto> findDeveloperDtosByStatusCodeEquals(@Param("statusCode") StatusCode statusCode);
+
+    // keyset pagination: offset 없이 마지막으로 읽은 id 다음부터 읽는다.
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDto(" +
+            "d.developerLevel, d.developerSkillType, d.memberId, d.id) " +
+            "from Developer d where d.statusCode = :statusCode and d.id > :id order by d.id")
+    List<DeveloperDto> findDeveloperDtosByStatusCodeEqualsAndIdGreaterThan(
+            @Param("statusCode") StatusCode statusCode, @Param("id") Long id, Pageable pageable
+    );
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = DEVELOPER_STREAM_FETCH_SIZE))
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDto(" +
+            "d.developerLevel, d.developerSkillType, d.memberId, d.id) " +
+            "from Developer d where d.statusCode = :statusCode order by d.id")
+    Stream<DeveloperDto> streamDeveloperDtosByStatusCode(@Param("statusCode") StatusCode statusCode);
+
+    // null 인 조건은 무시한다.
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDto(" +
+            "d.developerLevel, d.developerSkillType, d.memberId, d.id) " +
+            "from Developer d where d.statusCode = :statusCode " +
+            "and (:developerLevel is null or d.developerLevel = :developerLevel) " +
+            "and (:developerSkillType is null or d.developerSkillType = :developerSkillType) " +
+            "and d.id > :id order by d.id")
+    List<DeveloperDto> findDeveloperDtosByFilter(
+            @Param("statusCode") StatusCode statusCode,
+            @Param("developerLevel") DeveloperLevel developerLevel,
+            @Param("developerSkillType") DeveloperSkillType developerSkillType,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // DeveloperStats 초기화/reconcile 용
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperCountDto(" +
+            "d.developerLevel, d.developerSkillType, d.statusCode, count(d)) " +
+            "from Developer d group by d.developerLevel, d.developerSkillType, d.statusCode")
+    List<DeveloperCountDto> countDevelopersGroupByLevelAndSkillTypeAndStatusCode();
+
+    // DeveloperEditCoalescer: 모아 둔 edit 건수만큼 version을 올린다. (건별로 수정한 것과 같은 ETag)
+    // version 이나 statusCode 가 그 사이 바뀌었으면 0
+    @Modifying
+    @Query("update Developer d set d.developerLevel = :developerLevel, d.developerSkillType = :developerSkillType, " +
+            "d.experienceYears = :experienceYears, d.updatedAt = :now, d.version = d.version + :edits " +
+            "where d.memberId = :memberId and d.version = :version and d.statusCode = :statusCode")
+    int updateCoalescedEdit(
+            @Param("memberId") String memberId,
+            @Param("developerLevel") DeveloperLevel developerLevel,
+            @Param("developerSkillType") DeveloperSkillType developerSkillType,
+            @Param("experienceYears") Integer experienceYears,
+            @Param("version") Long version,
+            @Param("statusCode") StatusCode statusCode,
+            @Param("edits") long edits,
+            @Param("now") LocalDateTime now
+    );
+
+    // DeveloperArchiver: statusCode 로 바뀐 뒤 before 이전에 변경이 없었던 developer
+    // select ... for update. 옮기는 동안 수정/삭제는 커밋/롤백할 때까지 기다린다. (id 순으로 잡아 deadlock을 피한다.)
+    @Query(value = "select member_id from developer where status_code = :statusCode and updated_at < :before " +
+            "order by id limit :limit for update", nativeQuery = true)
+    List<String> findMemberIdsByStatusCodeAndUpdatedAtBeforeForUpdate(
+            @Param("statusCode") String statusCode, @Param("before") LocalDateTime before, @Param("limit") int limit
+    );
+
+    // 그 사이 바뀐 row는 지우지 않는다. (ArchivedDeveloperRepository.insertArchivedDevelopers 와 같은 조건)
+    @Modifying
+    @Query("delete from Developer d where d.memberId in :memberIds " +
+            "and d.statusCode = :statusCode and d.updatedAt < :before")
+    int deleteDevelopersByMemberIdInAndStatusCodeAndUpdatedAtBefore(
+            @Param("memberIds") Collection<String> memberIds,
+            @Param("statusCode") StatusCode statusCode, @Param("before") LocalDateTime before
+    );
+
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDetailDto(" +
+            "d.developerLevel, d.developerSkillType, d.experienceYears, d.memberId, " +
+            "d.statusCode, d.name, d.age, d.version) " +
+            "from Developer d where d.memberId in :memberIds")
+    List<DeveloperDetailDto> findDeveloperDetailDtosByMemberIdIn(
+            @Param("memberIds") Collection<String> memberIds
+    );
 }
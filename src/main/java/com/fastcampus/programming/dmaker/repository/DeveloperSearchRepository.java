@@ -0,0 +1,14 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+// Specification 조건으로 DeveloperDto를 바로 읽는 custom repository fragment
+// (JpaSpecificationExecutor는 엔티티를 읽은 뒤 변환하므로 쓰지 않는다.)
+public interface DeveloperSearchRepository {
+    // id 순으로 최대 limit 건
+    List<DeveloperDto> searchDeveloperDtos(Specification<Developer> specification, int limit);
+}
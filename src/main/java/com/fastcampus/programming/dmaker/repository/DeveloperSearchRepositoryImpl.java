@@ -0,0 +1,44 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DeveloperSearchRepositoryImpl implements DeveloperSearchRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public List<DeveloperDto> searchDeveloperDtos(Specification<Developer> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DeveloperDto> query = cb.createQuery(DeveloperDto.class);
+        Root<Developer> root = query.from(Developer.class);
+
+        // findDeveloperDtosByStatusCodeEquals 와 같은 DTO projection
+        query.select(cb.construct(DeveloperDto.class,
+                root.get("developerLevel"),
+                root.get("developerSkillType"),
+                root.get("memberId"),
+                root.get("id")
+        ));
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
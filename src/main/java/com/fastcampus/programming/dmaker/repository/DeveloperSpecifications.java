@@ -0,0 +1,77 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.springframework.data.jpa.domain.Specification;
+
+// 검색 조건. 값이 null 이면 null(= 조건 없음)을 돌려주므로 Specification.where(..).and(..)로 그대로 엮으면 된다.
+public final class DeveloperSpecifications {
+    private static final char LIKE_ESCAPE = '\\';
+
+    private DeveloperSpecifications() {
+    }
+
+    public static Specification<Developer> statusCodeEquals(StatusCode statusCode) {
+        return statusCode == null ? null :
+                (root, query, cb) -> cb.equal(root.get("statusCode"), statusCode);
+    }
+
+    public static Specification<Developer> developerLevelEquals(DeveloperLevel developerLevel) {
+        return developerLevel == null ? null :
+                (root, query, cb) -> cb.equal(root.get("developerLevel"), developerLevel);
+    }
+
+    public static Specification<Developer> developerSkillTypeEquals(DeveloperSkillType developerSkillType) {
+        return developerSkillType == null ? null :
+                (root, query, cb) -> cb.equal(root.get("developerSkillType"), developerSkillType);
+    }
+
+    public static Specification<Developer> experienceYearsBetween(Integer min, Integer max) {
+        return between("experienceYears", min, max);
+    }
+
+    public static Specification<Developer> ageBetween(Integer min, Integer max) {
+        return between("age", min, max);
+    }
+
+    // name like 'prefix%' : 앞부분이 고정이라 index range scan이 가능하다.
+    public static Specification<Developer> nameStartsWith(String prefix) {
+        return prefix == null || prefix.isEmpty() ? null :
+                (root, query, cb) -> cb.like(root.get("name"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    // keyset pagination
+    public static Specification<Developer> idGreaterThan(Long id) {
+        return id == null ? null :
+                (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    private static Specification<Developer> between(String attribute, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        if (max == null) {
+            return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), min);
+        }
+        if (min == null) {
+            return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(attribute), max);
+        }
+
+        return (root, query, cb) -> cb.between(root.get(attribute), min, max);
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+
+        return escaped.toString();
+    }
+}
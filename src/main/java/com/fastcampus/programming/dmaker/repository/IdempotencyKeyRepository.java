@@ -0,0 +1,34 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+    @Query("select k from IdempotencyKey k where k.key = :key and k.expiresAt > :now")
+    Optional<IdempotencyKey> findUnexpired(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    // key를 직접 지정하는 엔티티라 save()는 merge(select)부터 하므로 바로 insert 한다.
+    @Modifying
+    @Query(value = "insert into idempotency_key " +
+            "(idempotency_key, request_hash, response, created_at, expires_at) " +
+            "values (:key, :requestHash, :response, :now, :expiresAt)", nativeQuery = true)
+    int insertKey(@Param("key") String key, @Param("requestHash") String requestHash,
+                  @Param("response") String response,
+                  @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.key = :key and k.expiresAt <= :now")
+    int deleteExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+}
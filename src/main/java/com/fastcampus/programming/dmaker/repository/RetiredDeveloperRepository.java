@@ -3,10 +3,28 @@ package com.fastcampus.programming.dmaker.repository;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
 public interface RetiredDeveloperRepository extends JpaRepository<RetiredDeveloper, Long> {
+    // INSERT ... SELECT: Developer 엔티티를 읽어오지 않고 DB 안에서 바로 복사한다.
+    @Modifying
+    @Query("insert into RetiredDeveloper (memberId, name, createdAt, updatedAt) " +
+            "select d.memberId, d.name, :now, :now from Developer d where d.memberId in :memberIds")
+    int insertRetiredDevelopers(
+            @Param("memberIds") Collection<String> memberIds, @Param("now") LocalDateTime now
+    );
+
+    // DeveloperArchiver: archive로 옮긴 developer의 것만 지운다.
+    @Modifying
+    @Query("delete from RetiredDeveloper r where r.memberId in :memberIds and r.memberId in " +
+            "(select a.memberId from ArchivedDeveloper a where a.memberId in :memberIds)")
+    int deleteArchivedRetiredDevelopers(@Param("memberIds") Collection<String> memberIds);
 }
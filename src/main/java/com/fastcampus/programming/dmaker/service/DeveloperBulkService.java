@@ -0,0 +1,370 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.audit.DeveloperAuditor;
+import com.fastcampus.programming.dmaker.cache.DeveloperDetailCache;
+import com.fastcampus.programming.dmaker.coalescing.DeveloperEditCoalescer;
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.BulkCreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.RetireDevelopers;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.outbox.DeveloperOutbox;
+import com.fastcampus.programming.dmaker.repository.ArchivedDeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.stats.DeveloperStats;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED;
+
+// 대량 처리는 건별 API와 달리 batch-size 단위로 나눠서 각각 별도 트랜잭션으로 처리한다.
+// sharding 시에는 한 chunk를 다시 shard 별로 나눠서 shard 마다 트랜잭션 하나로 처리한다.
+@Slf4j
+@Service
+public class DeveloperBulkService {
+    private final DeveloperRepository developerRepository;
+    private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final ArchivedDeveloperRepository archivedDeveloperRepository;
+    private final DeveloperDetailCache developerDetailCache;
+    private final DeveloperEditCoalescer developerEditCoalescer;
+    private final DeveloperStats developerStats;
+    private final DeveloperOutbox developerOutbox;
+    private final DeveloperAuditor developerAuditor;
+    private final DeveloperShards developerShards;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int retireChunkSize;
+
+    public DeveloperBulkService(
+            DeveloperRepository developerRepository,
+            RetiredDeveloperRepository retiredDeveloperRepository,
+            ArchivedDeveloperRepository archivedDeveloperRepository,
+            DeveloperDetailCache developerDetailCache,
+            DeveloperEditCoalescer developerEditCoalescer,
+            DeveloperStats developerStats,
+            DeveloperOutbox developerOutbox,
+            DeveloperAuditor developerAuditor,
+            DeveloperShards developerShards,
+            PlatformTransactionManager transactionManager,
+            @Value("${dmaker.bulk.batch-size}") int batchSize,
+            @Value("${dmaker.bulk.retire-chunk-size}") int retireChunkSize
+    ) {
+        this.developerRepository = developerRepository;
+        this.retiredDeveloperRepository = retiredDeveloperRepository;
+        this.archivedDeveloperRepository = archivedDeveloperRepository;
+        this.developerDetailCache = developerDetailCache;
+        this.developerEditCoalescer = developerEditCoalescer;
+        this.developerStats = developerStats;
+        this.developerOutbox = developerOutbox;
+        this.developerAuditor = developerAuditor;
+        this.developerShards = developerShards;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retireChunkSize = retireChunkSize;
+    }
+
+    public BulkCreateDeveloper.Response createDevelopers(Iterator<CreateDeveloper.Request> requests) {
+        List<BulkCreateDeveloper.Result> results = new ArrayList<>();
+        // 같은 요청 안에서 중복된 memberId
+        Set<String> requestedMemberIds = new HashSet<>();
+        List<CreateDeveloper.Request> chunk = new ArrayList<>(batchSize);
+
+        while (requests.hasNext()) {
+            chunk.add(requests.next());
+            if (chunk.size() == batchSize) {
+                results.addAll(createChunk(chunk, requestedMemberIds));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(createChunk(chunk, requestedMemberIds));
+        }
+
+        int createdCount = (int) results.stream()
+                .filter(BulkCreateDeveloper.Result::isCreated).count();
+        return BulkCreateDeveloper.Response.builder()
+                .createdCount(createdCount)
+                .failedCount(results.size() - createdCount)
+                .results(results)
+                .build();
+    }
+
+    private List<BulkCreateDeveloper.Result> createChunk(
+            List<CreateDeveloper.Request> chunk, Set<String> requestedMemberIds
+    ) {
+        BulkCreateDeveloper.Result[] results = new BulkCreateDeveloper.Result[chunk.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            CreateDeveloper.Request request = chunk.get(i);
+            BulkCreateDeveloper.Result invalid = validate(request);
+            if (invalid != null) {
+                results[i] = invalid;
+            } else if (!requestedMemberIds.add(request.getMemberId())) {
+                results[i] = duplicated(request.getMemberId());
+            } else {
+                candidates.put(request.getMemberId(), i);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            for (Map.Entry<Integer, List<String>> shard :
+                    developerShards.partition(candidates.keySet(), memberId -> memberId).entrySet()) {
+                Map<String, Integer> shardCandidates = new LinkedHashMap<>();
+                shard.getValue().forEach(memberId -> shardCandidates.put(memberId, candidates.get(memberId)));
+                developerShards.callOn(shard.getKey(), () -> {
+                    insertShardCandidates(chunk, shardCandidates, results);
+                    return null;
+                });
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private void insertShardCandidates(
+            List<CreateDeveloper.Request> chunk,
+            Map<String, Integer> candidates,
+            BulkCreateDeveloper.Result[] results
+    ) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    insertCandidates(chunk, candidates, results));
+        } catch (DataIntegrityViolationException e) {
+            if (!DmakerService.isDuplicatedMemberId(e)) {
+                throw e;
+            }
+            // IN 조회 이후 다른 요청이 같은 memberId를 먼저 저장한 경우: 이 chunk만 건별로 다시 처리한다.
+            log.warn("bulk insert conflicted, retrying {} rows one by one", candidates.size());
+            insertOneByOne(chunk, candidates, results);
+        }
+    }
+
+    private void insertCandidates(
+            List<CreateDeveloper.Request> chunk,
+            Map<String, Integer> candidates,
+            BulkCreateDeveloper.Result[] results
+    ) {
+        // 중복 검사는 chunk 당 IN 쿼리 한 번 (archive로 옮긴 memberId 포함)
+        for (String existingMemberId :
+                developerRepository.findMemberIdsByMemberIdIn(candidates.keySet())) {
+            results[candidates.get(existingMemberId)] = duplicated(existingMemberId);
+        }
+        for (String archivedMemberId :
+                archivedDeveloperRepository.findMemberIdsByMemberIdIn(candidates.keySet())) {
+            results[candidates.get(archivedMemberId)] = duplicated(archivedMemberId);
+        }
+
+        List<Developer> developers = new ArrayList<>(candidates.size());
+        for (int index : candidates.values()) {
+            if (results[index] == null) {
+                developers.add(DmakerService.createDeveloperFromRequest(chunk.get(index)));
+            }
+        }
+        // sequence(pooled) id 이므로 flush 시점에 hibernate.jdbc.batch_size 단위로 batch insert 된다.
+        developerRepository.saveAll(developers);
+        developerRepository.flush();
+
+        List<DeveloperDetailDto> created = new ArrayList<>(developers.size());
+        for (Developer developer : developers) {
+            developerDetailCache.invalidateAfterCompletion(developer.getMemberId());
+            addToStats(developer);
+            created.add(DeveloperDetailDto.fromEntity(developer));
+            results[candidates.get(developer.getMemberId())] = BulkCreateDeveloper.Result.created(
+                    CreateDeveloper.Response.fromEntity(developer));
+        }
+        developerOutbox.appendAll(DeveloperEventType.CREATED, created);
+        developerAuditor.recordAll(DeveloperEventType.CREATED, null, created);
+    }
+
+    private void insertOneByOne(
+            List<CreateDeveloper.Request> chunk,
+            Map<String, Integer> candidates,
+            BulkCreateDeveloper.Result[] results
+    ) {
+        for (int index : candidates.values()) {
+            CreateDeveloper.Request request = chunk.get(index);
+            if (archivedDeveloperRepository.existsByMemberId(request.getMemberId())) {
+                results[index] = duplicated(request.getMemberId());
+                continue;
+            }
+            try {
+                Developer developer = transactionTemplate.execute(status -> {
+                    developerDetailCache.invalidateAfterCompletion(request.getMemberId());
+                    Developer saved = developerRepository.saveAndFlush(
+                            DmakerService.createDeveloperFromRequest(request));
+                    addToStats(saved);
+                    DeveloperDetailDto created = DeveloperDetailDto.fromEntity(saved);
+                    developerOutbox.append(DeveloperEventType.CREATED, created);
+                    developerAuditor.record(DeveloperEventType.CREATED, null, created);
+                    return saved;
+                });
+                results[index] = BulkCreateDeveloper.Result.created(
+                        CreateDeveloper.Response.fromEntity(developer));
+            } catch (DataIntegrityViolationException e) {
+                if (!DmakerService.isDuplicatedMemberId(e)) {
+                    throw e;
+                }
+                results[index] = duplicated(request.getMemberId());
+            }
+        }
+    }
+
+    // Bean Validation 대신 CreateDeveloper.violation 으로 확인해서 통과한 건은 할당이 없다.
+    private BulkCreateDeveloper.Result validate(CreateDeveloper.Request request) {
+        if (request == null) {
+            return BulkCreateDeveloper.Result.failed(
+                    null, INVALID_REQUEST, INVALID_REQUEST.getMessage());
+        }
+
+        String violation = request.violation();
+        if (violation != null) {
+            return BulkCreateDeveloper.Result.failed(request.getMemberId(), INVALID_REQUEST, violation);
+        }
+        if (!request.getDeveloperLevel().isValidExperienceYears(request.getExperienceYears())) {
+            return BulkCreateDeveloper.Result.failed(request.getMemberId(),
+                    LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, LEVEL_EXPERIENCE_YEARS_NOT_MATCHED.getMessage());
+        }
+        return null;
+    }
+
+    // deleteDeveloper를 memberId 마다 호출한 것과 같은 결과를 chunk 당 UPDATE 한 번, INSERT ... SELECT 한 번으로 만든다.
+    public RetireDevelopers.Response retireDevelopers(RetireDevelopers.Request request) {
+        boolean hasMemberIds = request.getMemberIds() != null && !request.getMemberIds().isEmpty();
+        boolean hasFilter = request.getDeveloperLevel() != null || request.getDeveloperSkillType() != null;
+        if (hasMemberIds == hasFilter) {
+            throw new DMakerException(INVALID_REQUEST,
+                    "memberIds 또는 developerLevel/developerSkillType 중 하나만 지정해야 합니다.");
+        }
+
+        return hasMemberIds ?
+                retireByMemberIds(new ArrayList<>(new LinkedHashSet<>(request.getMemberIds()))) :
+                retireByFilter(request.getDeveloperLevel(), request.getDeveloperSkillType());
+    }
+
+    private RetireDevelopers.Response retireByMemberIds(List<String> memberIds) {
+        int retiredCount = 0;
+        List<String> notFoundMemberIds = new ArrayList<>();
+
+        for (int from = 0; from < memberIds.size(); from += retireChunkSize) {
+            List<String> chunk = memberIds.subList(from, Math.min(from + retireChunkSize, memberIds.size()));
+            Set<String> found = new HashSet<>();
+            for (Map.Entry<Integer, List<String>> shard :
+                    developerShards.partition(chunk, memberId -> memberId).entrySet()) {
+                found.addAll(developerShards.callOn(shard.getKey(), () -> transactionTemplate.execute(status -> {
+                    Set<String> existing = new HashSet<>(
+                            developerRepository.findMemberIdsByMemberIdIn(shard.getValue()));
+                    retire(existing);
+                    return existing;
+                })));
+            }
+
+            retiredCount += found.size();
+            chunk.stream().filter(memberId -> !found.contains(memberId))
+                    .forEach(notFoundMemberIds::add);
+        }
+
+        return RetireDevelopers.Response.builder()
+                .retiredCount(retiredCount)
+                .notFoundMemberIds(notFoundMemberIds)
+                .build();
+    }
+
+    private RetireDevelopers.Response retireByFilter(
+            DeveloperLevel developerLevel, DeveloperSkillType developerSkillType
+    ) {
+        int retiredCount = 0;
+        for (int shard = 0; shard < developerShards.getShardCount(); shard++) {
+            retiredCount += developerShards.callOn(shard,
+                    () -> retireByFilterOnShard(developerLevel, developerSkillType));
+        }
+
+        return RetireDevelopers.Response.builder()
+                .retiredCount(retiredCount)
+                .notFoundMemberIds(Collections.emptyList())
+                .build();
+    }
+
+    private int retireByFilterOnShard(DeveloperLevel developerLevel, DeveloperSkillType developerSkillType) {
+        int retiredCount = 0;
+        long lastId = 0L;
+
+        while (true) {
+            long cursor = lastId;
+            List<DeveloperDto> chunk = transactionTemplate.execute(status -> {
+                List<DeveloperDto> developers = developerRepository.findDeveloperDtosByFilter(
+                        StatusCode.EMPLOYED, developerLevel, developerSkillType,
+                        cursor, PageRequest.of(0, retireChunkSize));
+                retire(developers.stream().map(DeveloperDto::getMemberId)
+                        .collect(Collectors.toList()));
+                return developers;
+            });
+
+            retiredCount += chunk.size();
+            if (chunk.size() < retireChunkSize) {
+                break;
+            }
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+
+        return retiredCount;
+    }
+
+    private void retire(Collection<String> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        // 변경 전 상태 (DeveloperStats 증감, outbox 이벤트, 변경 이력용)
+        List<DeveloperDetailDto> befores = developerRepository.findDeveloperDetailDtosByMemberIdIn(memberIds);
+        LocalDateTime now = LocalDateTime.now();
+        // 1. save into RetiredDeveloper
+        retiredDeveloperRepository.insertRetiredDevelopers(memberIds, now);
+        // 2. EMPLOYED -> RETIRED
+        developerRepository.updateStatusCodeByMemberIdIn(memberIds, StatusCode.RETIRED, now);
+        memberIds.forEach(developerDetailCache::invalidateAfterCompletion);
+        memberIds.forEach(developerEditCoalescer::discardAfterCommit);
+        List<DeveloperDetailDto> afters = new ArrayList<>(befores.size());
+        for (DeveloperDetailDto before : befores) {
+            developerStats.addAfterCommit(before.getDeveloperLevel(), before.getDeveloperSkillType(),
+                    before.getStatusCode(), -1);
+            developerStats.addAfterCommit(before.getDeveloperLevel(), before.getDeveloperSkillType(),
+                    StatusCode.RETIRED, 1);
+            afters.add(before.toBuilder()
+                    .statusCode(StatusCode.RETIRED)
+                    .version(before.getVersion() + 1)
+                    .build());
+        }
+        developerOutbox.appendAll(DeveloperEventType.RETIRED, afters);
+        developerAuditor.recordAll(DeveloperEventType.RETIRED, befores, afters);
+    }
+
+    private void addToStats(Developer developer) {
+        developerStats.addAfterCommit(developer.getDeveloperLevel(), developer.getDeveloperSkillType(),
+                developer.getStatusCode(), 1);
+    }
+
+    private static BulkCreateDeveloper.Result duplicated(String memberId) {
+        return BulkCreateDeveloper.Result.failed(
+                memberId, DUPLICATED_MEMBER_ID, DUPLICATED_MEMBER_ID.getMessage());
+    }
+}
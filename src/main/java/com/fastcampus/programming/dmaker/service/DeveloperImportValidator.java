@@ -0,0 +1,222 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.ValidateDevelopers;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.dto.CreateDeveloper.NO_LENGTH;
+import static com.fastcampus.programming.dmaker.dto.CreateDeveloper.NO_VALUE;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED;
+
+// 가져올 파일(NDJSON 또는 JSON 배열의 CreateDeveloper.Request)을 저장하지 않고 확인만 한다.
+// Request 객체를 만들지 않고 JsonParser token을 바로 읽어서 통과한 행에는 할당이 없다.
+// (필드 이름은 parser가 intern 하고, enum은 문자 배열로 비교하고, 문자열은 길이만 본다.)
+// 파일 안/DB 와의 memberId 중복은 저장할 때(/create-developers) 확인한다.
+@Service
+@RequiredArgsConstructor
+public class DeveloperImportValidator {
+    // values()는 호출할 때마다 배열을 복사하므로 한 번만 만든다.
+    private static final DeveloperLevel[] LEVELS = DeveloperLevel.values();
+    private static final DeveloperSkillType[] SKILL_TYPES = DeveloperSkillType.values();
+    private static final char[][] LEVEL_NAMES = names(LEVELS);
+    private static final char[][] SKILL_TYPE_NAMES = names(SKILL_TYPES);
+
+    private final ObjectMapper objectMapper;
+
+    public ValidateDevelopers.Response validate(InputStream body) throws IOException {
+        int index = 0;
+        int validCount = 0;
+        List<ValidateDevelopers.Result> invalidRows = new ArrayList<>();
+        Row row = new Row();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                // JSON 배열이면 배열 안의 객체를 한 행으로 본다.
+                if (token == JsonToken.START_ARRAY || token == JsonToken.END_ARRAY) {
+                    continue;
+                }
+
+                String violation = token == JsonToken.START_OBJECT ? row.read(parser) : row.skip(parser);
+                if (violation != null) {
+                    invalidRows.add(row.failed(index, INVALID_REQUEST, violation));
+                } else if (!LEVELS[row.developerLevel].isValidExperienceYears(row.experienceYears)) {
+                    invalidRows.add(row.failed(index, LEVEL_EXPERIENCE_YEARS_NOT_MATCHED,
+                            LEVEL_EXPERIENCE_YEARS_NOT_MATCHED.getMessage()));
+                } else {
+                    validCount++;
+                }
+                index++;
+            }
+        }
+
+        return ValidateDevelopers.Response.builder()
+                .validCount(validCount)
+                .invalidCount(invalidRows.size())
+                .invalidRows(invalidRows)
+                .build();
+    }
+
+    // 한 행의 필드. 행마다 새로 만들지 않고 재사용한다.
+    private static final class Row {
+        private int developerLevel;
+        private int developerSkillType;
+        private int experienceYears;
+        private int memberIdLength;
+        private int nameLength;
+        private int age;
+        // 실패한 행에만 memberId 문자열을 만든다.
+        private final StringBuilder memberId = new StringBuilder();
+        // 타입이 맞지 않는 값 (예: 문자열 경력, 없는 enum 이름)
+        private String typeViolation;
+
+        private String read(JsonParser parser) throws IOException {
+            reset();
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "developerLevel":
+                        developerLevel = enumIndex(parser, token, LEVEL_NAMES, "developerLevel: invalid value");
+                        break;
+                    case "developerSkillType":
+                        developerSkillType =
+                                enumIndex(parser, token, SKILL_TYPE_NAMES, "developerSkillType: invalid value");
+                        break;
+                    case "experienceYears":
+                        experienceYears = intValue(parser, token, "experienceYears: invalid value");
+                        break;
+                    case "memberId":
+                        memberIdLength = textLength(parser, token, "memberId: invalid value");
+                        if (memberIdLength != NO_LENGTH) {
+                            memberId.append(parser.getTextCharacters(), parser.getTextOffset(), memberIdLength);
+                        }
+                        break;
+                    case "name":
+                        nameLength = textLength(parser, token, "name: invalid value");
+                        break;
+                    case "age":
+                        age = intValue(parser, token, "age: invalid value");
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            if (token != JsonToken.END_OBJECT) {
+                return INVALID_REQUEST.getMessage();
+            }
+            if (typeViolation != null) {
+                return typeViolation;
+            }
+
+            return CreateDeveloper.violation(
+                    developerLevel == NO_VALUE ? null : LEVELS[developerLevel],
+                    developerSkillType == NO_VALUE ? null : SKILL_TYPES[developerSkillType],
+                    experienceYears, memberIdLength, nameLength, age);
+        }
+
+        // 객체가 아닌 행
+        private String skip(JsonParser parser) throws IOException {
+            reset();
+            parser.skipChildren();
+            return INVALID_REQUEST.getMessage();
+        }
+
+        private ValidateDevelopers.Result failed(int index, DMakerErrorCode errorCode, String errorMessage) {
+            return ValidateDevelopers.Result.builder()
+                    .index(index)
+                    .memberId(memberIdLength == NO_LENGTH ? null : memberId.toString())
+                    .errorCode(errorCode)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+
+        private void reset() {
+            developerLevel = NO_VALUE;
+            developerSkillType = NO_VALUE;
+            experienceYears = NO_VALUE;
+            memberIdLength = NO_LENGTH;
+            nameLength = NO_LENGTH;
+            age = NO_VALUE;
+            memberId.setLength(0);
+            typeViolation = null;
+        }
+
+        private int enumIndex(JsonParser parser, JsonToken token, char[][] names, String violation)
+                throws IOException {
+            if (token == JsonToken.VALUE_STRING) {
+                int index = indexOf(names, parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                if (index >= 0) {
+                    return index;
+                }
+            }
+            return invalid(parser, violation);
+        }
+
+        private int intValue(JsonParser parser, JsonToken token, String violation) throws IOException {
+            if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+                return parser.getIntValue();
+            }
+            return invalid(parser, violation);
+        }
+
+        private int textLength(JsonParser parser, JsonToken token, String violation) throws IOException {
+            if (token == JsonToken.VALUE_STRING) {
+                return parser.getTextLength();
+            }
+            invalid(parser, violation);
+            return NO_LENGTH;
+        }
+
+        // 값은 없는 것으로 두고 이유만 남긴다.
+        private int invalid(JsonParser parser, String violation) throws IOException {
+            parser.skipChildren();
+            if (typeViolation == null) {
+                typeViolation = violation;
+            }
+            return NO_VALUE;
+        }
+    }
+
+    private static int indexOf(char[][] names, char[] text, int offset, int length) {
+        for (int i = 0; i < names.length; i++) {
+            char[] name = names[i];
+            if (name.length != length) {
+                continue;
+            }
+            int j = 0;
+            while (j < length && name[j] == text[offset + j]) {
+                j++;
+            }
+            if (j == length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static char[][] names(Enum<?>[] values) {
+        char[][] names = new char[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            names[i] = values[i].name().toCharArray();
+        }
+        return names;
+    }
+}
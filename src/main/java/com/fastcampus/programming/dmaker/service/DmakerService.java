@@ -1,34 +1,87 @@
 package com.fastcampus.programming.dmaker.service;
 
+import com.fastcampus.programming.dmaker.audit.DeveloperAuditRecord;
+import com.fastcampus.programming.dmaker.audit.DeveloperAuditor;
+import com.fastcampus.programming.dmaker.cache.DeveloperDetailCache;
+import com.fastcampus.programming.dmaker.coalescing.DeveloperEditCoalescer;
 import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.datasource.ReplicaContext;
 import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperAuditDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperChangeDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperChangesDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperCountDto;
 import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperHistoryDto;
 import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
 import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.dto.SearchDevelopers;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
 import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.outbox.DeveloperOutbox;
+import com.fastcampus.programming.dmaker.repository.ArchivedDeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperAuditRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperOutboxRepository;
 import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
 import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.shard.ShardContext;
+import com.fastcampus.programming.dmaker.shard.ShardKey;
+import com.fastcampus.programming.dmaker.stats.DeveloperStats;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import io.micrometer.core.annotation.Timed;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEFAULT_PAGE_SIZE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_STREAM_FETCH_SIZE;
 import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_JUINOR_EXPERIENCE_YEARS;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MEMBER_ID_UNIQUE_INDEX;
 import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MIN_SEINOR_EXPERIENCE_YEARS;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.SERVICE_TIMER;
 import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.*;
+import static com.fastcampus.programming.dmaker.repository.DeveloperSpecifications.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor    // autowired -> 생성자 방식에서 어노테이션으로
 //@Transactional  // entitymanager로 transaction할 필요없다. AOP기반으로 동작함 TransactionInterceptor가 동작함
 public class DmakerService {
+    private static final Comparator<DeveloperDto> BY_ID = Comparator.comparingLong(DeveloperDto::getId);
+    private static final Comparator<DeveloperChangeDto> BY_SEQUENCE =
+            Comparator.comparing(DeveloperChangeDto::getSequence).thenComparing(DeveloperChangeDto::getShard);
+    private static final int SHARDED_STREAM_PAGE_SIZE = Integer.parseInt(DEVELOPER_STREAM_FETCH_SIZE);
+
     private final DeveloperRepository developerRepository;
     private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final ArchivedDeveloperRepository archivedDeveloperRepository;
+    private final DeveloperDetailCache developerDetailCache;
+    private final DeveloperStats developerStats;
+    private final DeveloperOutbox developerOutbox;
+    private final DeveloperOutboxRepository developerOutboxRepository;
+    private final DeveloperAuditor developerAuditor;
+    private final DeveloperAuditRepository developerAuditRepository;
+    private final DeveloperShards developerShards;
+    private final DeveloperEditCoalescer developerEditCoalescer;
 //    private final EntityManager em; // db를 추상화
 
     // transaction - ACID
@@ -37,18 +90,51 @@ public class DmakerService {
     // Isolation 고립성
     // Durability 지속성
     @Transactional
-    public CreateDeveloper.Response createDeveloper(CreateDeveloper.Request request) {
+    @Timed(SERVICE_TIMER)
+    public CreateDeveloper.Response createDeveloper(@ShardKey CreateDeveloper.Request request) {
         validateCreatedDeveloperRequest(request);
+        developerDetailCache.invalidateAfterCompletion(request.getMemberId());
+        developerStats.addAfterCommit(request.getDeveloperLevel(), request.getDeveloperSkillType(),
+                StatusCode.EMPLOYED, 1);
         // business logic start
-        // 지역변수 선언하지 않은 응집력 있는 코드
-        return CreateDeveloper.Response.fromEntity(
-                developerRepository.save(
-                        createDeveloperFromRequest(request)
-                ));
+        Developer developer = saveNewDeveloper(createDeveloperFromRequest(request));
+        DeveloperDetailDto developerDetail = DeveloperDetailDto.fromEntity(developer);
+        developerOutbox.append(DeveloperEventType.CREATED, developerDetail);
+        developerAuditor.record(DeveloperEventType.CREATED, null, developerDetail);
+
+        return CreateDeveloper.Response.fromEntity(developer);
         // business logic end
     }
 
-    private Developer createDeveloperFromRequest(CreateDeveloper.Request request) {
+    private Developer saveNewDeveloper(Developer developer) {
+        // 중복 확인용 select 없이 memberId unique index에 맡긴다.
+        // (동시에 같은 memberId로 생성 요청이 들어와도 한 건만 저장된다.)
+        // archive로 옮긴 memberId는 unique index 밖에 있으므로 따로 확인한다.
+        if (archivedDeveloperRepository.existsByMemberId(developer.getMemberId())) {
+            throw new DMakerException(DUPLICATED_MEMBER_ID);
+        }
+        try {
+            return developerRepository.saveAndFlush(developer);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicatedMemberId(e)) {
+                throw new DMakerException(DUPLICATED_MEMBER_ID);
+            }
+            throw e;
+        }
+    }
+
+    // memberId unique index 위반만 중복으로 본다. (NOT NULL, 길이 등 다른 제약 위반은 그대로 던진다.)
+    static boolean isDuplicatedMemberId(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(MEMBER_ID_UNIQUE_INDEX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Developer createDeveloperFromRequest(CreateDeveloper.Request request) {
         return
                 Developer.builder()
                         .developerLevel(request.getDeveloperLevel())
@@ -66,11 +152,6 @@ public class DmakerService {
     ) {
         // business validation
         request.getDeveloperLevel().validateExperienceYears(request.getExperienceYears());
-
-        developerRepository.findByMemberId(request.getMemberId())
-                .ifPresent(developer -> {
-                    throw new DMakerException(DUPLICATED_MEMBER_ID);
-                });
     }
 
     private void validateDeveloperLevel(DeveloperLevel developerLevel, Integer experienceYears) {
@@ -78,33 +159,257 @@ public class DmakerService {
     }
 
     @Transactional(readOnly = true)
+    @Timed(SERVICE_TIMER)
     public List<DeveloperDto> getAllEmployedDevelopers() {
-        return developerRepository.findDevelopersByStatusCodeEquals(StatusCode.EMPLOYED)
-                .stream().map(DeveloperDto::fromEntity)
-                .collect(Collectors.toList());
+        // query cache를 채우므로 primary에서 읽는다. (replica의 이전 결과가 다음 수정 때까지 남지 않게)
+        if (!developerShards.isSharded()) {
+            return ReplicaContext.callOnPrimary(
+                    () -> developerRepository.findDeveloperDtosByStatusCodeEquals(StatusCode.EMPLOYED));
+        }
+
+        // query cache key에는 shard 구분이 없으므로 캐시하지 않는 keyset query를 shard 마다 실행해서 id 순으로 합친다.
+        return developerShards.scatterMerged(
+                () -> developerRepository.findDeveloperDtosByStatusCodeEqualsAndIdGreaterThan(
+                        StatusCode.EMPLOYED, 0L, Pageable.unpaged()),
+                BY_ID, Integer.MAX_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    @Timed(SERVICE_TIMER)
+    public DeveloperPageDto getEmployedDevelopers(String cursor, int size) {
+        int pageSize = getPageSize(size);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다. (count 쿼리 없음)
+        return toPage(
+                developerShards.scatterMerged(
+                        () -> developerRepository.findDeveloperDtosByStatusCodeEqualsAndIdGreaterThan(
+                                StatusCode.EMPLOYED,
+                                DeveloperPageDto.decodeCursor(cursor),
+                                PageRequest.of(0, pageSize + 1)
+                        ),
+                        BY_ID, pageSize + 1
+                ),
+                pageSize
+        );
+    }
+
+    // 모든 조건을 where 절로 내려보낸다. (조회 후 메모리에서 거르는 row 없음)
+    @Transactional(readOnly = true)
+    @Timed(SERVICE_TIMER)
+    public DeveloperPageDto searchDevelopers(SearchDevelopers.Request request) {
+        int pageSize = getPageSize(request.getSize() == null ?
+                Integer.parseInt(DEFAULT_PAGE_SIZE) : request.getSize());
+        validateRange(request.getMinExperienceYears(), request.getMaxExperienceYears());
+        validateRange(request.getMinAge(), request.getMaxAge());
+
+        Specification<Developer> specification = Specification
+                .where(statusCodeEquals(request.getStatusCode() == null ?
+                        StatusCode.EMPLOYED : request.getStatusCode()))
+                .and(developerLevelEquals(request.getDeveloperLevel()))
+                .and(developerSkillTypeEquals(request.getDeveloperSkillType()))
+                .and(experienceYearsBetween(
+                        request.getMinExperienceYears(), request.getMaxExperienceYears()))
+                .and(ageBetween(request.getMinAge(), request.getMaxAge()))
+                .and(nameStartsWith(request.getNamePrefix()))
+                .and(idGreaterThan(DeveloperPageDto.decodeCursor(request.getCursor())));
+
+        return toPage(developerShards.scatterMerged(
+                () -> developerRepository.searchDeveloperDtos(specification, pageSize + 1),
+                BY_ID, pageSize + 1), pageSize);
+    }
+
+    private int getPageSize(int size) {
+        if (size < 1) {
+            throw new DMakerException(INVALID_REQUEST, "size는 1 이상이어야 합니다.");
+        }
+
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private void validateRange(Integer min, Integer max) {
+        if (min != null && max != null && min > max) {
+            throw new DMakerException(INVALID_REQUEST, "범위 조건의 최소값이 최대값보다 큽니다.");
+        }
+    }
+
+    // developers는 pageSize + 1 건까지 읽은 결과
+    private DeveloperPageDto toPage(List<DeveloperDto> developers, int pageSize) {
+        boolean hasNext = developers.size() > pageSize;
+        List<DeveloperDto> page = hasNext ? developers.subList(0, pageSize) : developers;
+
+        return DeveloperPageDto.builder()
+                .developers(page)
+                .nextCursor(hasNext ?
+                        DeveloperPageDto.encodeCursor(page.get(pageSize - 1).getId()) : null)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public DeveloperDetailDto getDeveloperDetail(String memberId) {
-        return DeveloperDetailDto.fromEntity(getDeveloperByMemberId(memberId));
+    @Timed(SERVICE_TIMER)
+    public void streamEmployedDevelopers(Consumer<DeveloperDto> consumer) {
+        if (developerShards.isSharded()) {
+            streamEmployedDevelopersFromShards(consumer);
+            return;
+        }
+
+        try (Stream<DeveloperDto> developers =
+                     developerRepository.streamDeveloperDtosByStatusCode(StatusCode.EMPLOYED)) {
+            developers.forEach(consumer);
+        }
+    }
+
+    // shard 마다 cursor를 열어두는 대신 keyset 페이지를 shard 별로 읽어서 id 순으로 합친다.
+    private void streamEmployedDevelopersFromShards(Consumer<DeveloperDto> consumer) {
+        long cursor = 0L;
+        List<DeveloperDto> page;
+        do {
+            long from = cursor;
+            page = developerShards.scatterMerged(
+                    () -> developerRepository.findDeveloperDtosByStatusCodeEqualsAndIdGreaterThan(
+                            StatusCode.EMPLOYED, from, PageRequest.of(0, SHARDED_STREAM_PAGE_SIZE)),
+                    BY_ID, SHARDED_STREAM_PAGE_SIZE);
+            page.forEach(consumer);
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == SHARDED_STREAM_PAGE_SIZE);
+    }
+
+    // since(cursor) 이후에 발행된 변경 이벤트. 변경이 없으면 nextCursor는 since 그대로
+    // sharding: publish_seq는 shard 마다 매기므로 cursor에 shard 별 마지막 sequence를 담고,
+    // shard 마다 그 이후를 읽어 (sequence, shard) 순으로 합친다.
+    // 합친 결과는 shard 별로 앞에서부터 잘리므로 다음 페이지에서 빠지거나 겹치는 이벤트가 없다.
+    @Transactional(readOnly = true)
+    @Timed(SERVICE_TIMER)
+    public DeveloperChangesDto getDeveloperChanges(String since, int size) {
+        int pageSize = getPageSize(size);
+        long[] cursor = DeveloperChangesDto.decodeCursor(since, developerShards.getShardCount());
+        List<DeveloperChangeDto> changes = developerShards.scatterMerged(() -> {
+            int shard = ShardContext.currentShard();
+            List<DeveloperChangeDto> shardChanges = developerOutboxRepository.findChangesByPublishSeqGreaterThan(
+                    cursor[shard], PageRequest.of(0, pageSize));
+            shardChanges.forEach(change -> change.setShard(shard));
+            return shardChanges;
+        }, BY_SEQUENCE, pageSize);
+
+        for (DeveloperChangeDto change : changes) {
+            cursor[change.getShard()] = change.getSequence();
+        }
+        return DeveloperChangesDto.builder()
+                .changes(changes)
+                .nextCursor(changes.isEmpty() ? since : DeveloperChangesDto.encodeCursor(cursor))
+                .build();
+    }
+
+    // 변경 이력은 commit 이후 비동기로 쌓이므로 방금 바꾼 내용은 잠시 뒤에 보일 수 있다.
+    @Transactional(readOnly = true)
+    @Timed(SERVICE_TIMER)
+    public DeveloperHistoryDto getDeveloperHistory(String memberId, String cursor, int size) {
+        int pageSize = getPageSize(size);
+        DeveloperAuditDto last = DeveloperHistoryDto.decodeCursor(cursor);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<DeveloperAuditDto> audits = last == null ?
+                developerAuditRepository.findAuditDtosByMemberId(memberId, pageable) :
+                developerAuditRepository.findAuditDtosByMemberIdAfter(
+                        memberId, last.getChangedAt(), last.getId(), pageable);
+        boolean hasNext = audits.size() > pageSize;
+        List<DeveloperAuditDto> history = hasNext ? audits.subList(0, pageSize) : audits;
+
+        return DeveloperHistoryDto.builder()
+                .memberId(memberId)
+                .history(history)
+                .nextCursor(hasNext ? DeveloperHistoryDto.encodeCursor(history.get(pageSize - 1)) : null)
+                .build();
+    }
+
+    // DB 조회 없이 메모리의 인원 수 matrix를 그대로 내려준다.
+    @Timed(SERVICE_TIMER)
+    public List<DeveloperCountDto> getDeveloperCounts() {
+        return developerStats.getCounts();
+    }
+
+    // 캐시 hit 시에는 트랜잭션(커넥션)을 열지 않도록 메서드 단위 트랜잭션을 두지 않는다.
+    // miss 일 때는 loadByMemberId가 repository의 readOnly 트랜잭션에서 실행된다.
+    // 읽은 값은 캐시하므로 replica가 아니라 primary에서 읽는다. (복제 지연 중인 이전 version이 TTL 동안 남지 않게)
+    // developer 테이블에 없으면 archive로 옮긴(오래전에 RETIRED 된) developer를 찾는다. (DeveloperArchiver)
+    @Timed(SERVICE_TIMER)
+    public DeveloperDetailDto getDeveloperDetail(@ShardKey String memberId) {
+        // 아직 DB에 반영하지 않은 edit이 있으면 그 값 (read-your-writes)
+        DeveloperDetailDto pending = developerEditCoalescer.pending(memberId);
+        if (pending != null) {
+            return pending;
+        }
+
+        return developerDetailCache.get(memberId, () -> ReplicaContext.callOnPrimary(
+                () -> developerRepository.loadByMemberId(memberId)
+                        .map(DeveloperDetailDto::fromEntity)
+                        .orElseGet(() -> getArchivedDeveloperDetail(memberId))));
+    }
+
+    private DeveloperDetailDto getArchivedDeveloperDetail(String memberId) {
+        return archivedDeveloperRepository.findByMemberId(memberId)
+                .map(DeveloperDetailDto::fromArchived)
+                .orElseThrow(() -> new DMakerException(NO_DEVELOPER));
     }
 
     private Developer getDeveloperByMemberId(String memberId) {
-        return developerRepository.findByMemberId(memberId)
+        // second-level cache (natural id)
+        return developerRepository.loadByMemberId(memberId)
                 .orElseThrow(() -> new DMakerException(NO_DEVELOPER));
     }
 
     @Transactional
-    public DeveloperDetailDto editDeveloper(String memberId, EditDeveloper.Request request) {
+    @Timed(SERVICE_TIMER)
+    // expectedVersions: If-Match 로 받은 version들, 하나라도 같으면 수정한다. (null 이면 확인하지 않는다.)
+    public DeveloperDetailDto editDeveloper(@ShardKey String memberId, EditDeveloper.Request request,
+                                          Set<Long> expectedVersions) {
         request.getDeveloperLevel().validateExperienceYears(
                 request.getExperienceYears()
         );
+        developerDetailCache.invalidateAfterCompletion(memberId);
+        Developer developer = getDeveloperByMemberId(memberId);
+        if (expectedVersions != null && !expectedVersions.contains(developer.getVersion())) {
+            throw new DMakerException(VERSION_NOT_MATCHED);
+        }
+        developerStats.addAfterCommit(developer.getDeveloperLevel(), developer.getDeveloperSkillType(),
+                developer.getStatusCode(), -1);
+        developerStats.addAfterCommit(request.getDeveloperLevel(), request.getDeveloperSkillType(),
+                developer.getStatusCode(), 1);
 
-        return DeveloperDetailDto.fromEntity(
-                getUpdatedDeveloperFromRequest(
-                        request, getDeveloperByMemberId(memberId)
-                )
-        );
+        DeveloperDetailDto before = DeveloperDetailDto.fromEntity(developer);
+        getUpdatedDeveloperFromRequest(request, developer);
+        // 응답 ETag에 증가된 version이 나가도록 여기서 flush 한다. (update 문은 한 번 그대로)
+        developerRepository.flush();
+        DeveloperDetailDto developerDetail = DeveloperDetailDto.fromEntity(developer);
+        developerOutbox.append(DeveloperEventType.EDITED, developerDetail);
+        developerAuditor.record(DeveloperEventType.EDITED, before, developerDetail);
+
+        return developerDetail;
+    }
+
+    // DeveloperEditCoalescer가 모아 둔 edit들(before -> after)을 UPDATE 한 번으로 반영한다.
+    // outbox 이벤트는 한 건 (중간 상태는 발행하지 않는다.), 변경 이력은 edit 마다 요청 때의 actor로 남긴다.
+    // 모으는 사이 다른 경로(삭제, bulk retire, 다른 인스턴스 등)로 바뀌었으면 덮어쓰지 않고 false (충돌)
+    @Transactional
+    @Timed(SERVICE_TIMER)
+    public boolean applyCoalescedEdit(@ShardKey String memberId, DeveloperDetailDto before,
+                                      DeveloperDetailDto after, List<DeveloperAuditRecord> edits) {
+        developerDetailCache.invalidateAfterCompletion(memberId);
+        int updated = developerRepository.updateCoalescedEdit(memberId, after.getDeveloperLevel(),
+                after.getDeveloperSkillType(), after.getExperienceYears(), before.getVersion(),
+                before.getStatusCode(), edits.size(), LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("developer {} changed while {} edits were buffered, dropping them", memberId, edits.size());
+            return false;
+        }
+
+        developerStats.addAfterCommit(before.getDeveloperLevel(), before.getDeveloperSkillType(),
+                before.getStatusCode(), -1);
+        developerStats.addAfterCommit(after.getDeveloperLevel(), after.getDeveloperSkillType(),
+                before.getStatusCode(), 1);
+        developerOutbox.append(DeveloperEventType.EDITED, after);
+        developerAuditor.recordAll(edits);
+        return true;
     }
 
     private Developer getUpdatedDeveloperFromRequest(
@@ -118,18 +423,30 @@ public class DmakerService {
     }
 
     @Transactional
-    public DeveloperDetailDto deleteDeveloper(String memberId) {
+    @Timed(SERVICE_TIMER)
+    public DeveloperDetailDto deleteDeveloper(@ShardKey String memberId) {
         // 1. EMPLOYED -> RETIRED
-        Developer developer =
-                developerRepository.findByMemberId(memberId).orElseThrow(() -> new DMakerException(NO_DEVELOPER));
+        Developer developer = getDeveloperByMemberId(memberId);
+        DeveloperDetailDto before = DeveloperDetailDto.fromEntity(developer);
+        developerStats.addAfterCommit(developer.getDeveloperLevel(), developer.getDeveloperSkillType(),
+                developer.getStatusCode(), -1);
         developer.setStatusCode(StatusCode.RETIRED);
+        developerStats.addAfterCommit(developer.getDeveloperLevel(), developer.getDeveloperSkillType(),
+                StatusCode.RETIRED, 1);
+        developerDetailCache.invalidateAfterCompletion(memberId);
+        // 아직 반영하지 않은 edit은 커밋되면 버린다. (RETIRED row에 덮어쓰거나 EMPLOYED 값을 보여주지 않게)
+        developerEditCoalescer.discardAfterCommit(memberId);
         // 2. save into RetiredDeveloper
         RetiredDeveloper retiredDeveloper = RetiredDeveloper.builder()
                 .memberId(memberId)
                 .name(developer.getName())
                 .build();
         retiredDeveloperRepository.save(retiredDeveloper);
+        // 3. 변경 이벤트, 변경 이력
+        DeveloperDetailDto developerDetail = DeveloperDetailDto.fromEntity(developer);
+        developerOutbox.append(DeveloperEventType.RETIRED, developerDetail);
+        developerAuditor.record(DeveloperEventType.RETIRED, before, developerDetail);
 
-        return DeveloperDetailDto.fromEntity(developer);
+        return developerDetail;
     }
 }
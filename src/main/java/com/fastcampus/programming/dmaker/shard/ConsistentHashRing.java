@@ -0,0 +1,66 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+// memberId -> shard 번호 (consistent hashing)
+// shard 마다 virtualNodes 개의 점을 ring 위에 두고, key의 hash 바로 다음(시계 방향) 점의 shard를 고른다.
+// shard를 하나 늘리면 새 shard 점 바로 앞에 있던 key(약 1/(N+1))만 옮기면 된다. (ShardRebalancer)
+public class ConsistentHashRing {
+    private final int shardCount;
+    // 오름차순. owners[i]는 points[i] 점의 shard
+    private final long[] points;
+    private final int[] owners;
+
+    public ConsistentHashRing(int shardCount, int virtualNodes) {
+        if (shardCount < 1 || virtualNodes < 1) {
+            throw new IllegalArgumentException("shardCount >= 1, virtualNodes >= 1");
+        }
+        this.shardCount = shardCount;
+
+        // 점이 겹치면 먼저 둔(번호가 작은) shard가 갖는다.
+        TreeMap<Long, Integer> ring = new TreeMap<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.putIfAbsent(hash("shard-" + shard + "#" + node), shard);
+            }
+        }
+        this.points = new long[ring.size()];
+        this.owners = new int[ring.size()];
+        int i = 0;
+        for (Map.Entry<Long, Integer> point : ring.entrySet()) {
+            points[i] = point.getKey();
+            owners[i] = point.getValue();
+            i++;
+        }
+    }
+
+    public int shardOf(String key) {
+        int index = Arrays.binarySearch(points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    // FNV-1a(64bit, char 단위) + murmur3 fmix64. (String.hashCode는 비슷한 key끼리 값이 몰린다.)
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,148 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Developer / RetiredDeveloper 를 memberId hash로 나눈 shard 들 (dmaker.sharding)
+// - 한 memberId에 대한 작업은 그 memberId의 shard 하나에서만 실행한다. (callFor, @ShardKey)
+// - 목록 조회는 모든 shard에 동시에 보내고(scatter) 결과를 id 순으로 합친다. (scatterMerged)
+// sharding을 끄면 shard 하나(single)이고, 호출한 스레드/트랜잭션에서 그대로 실행한다.
+public class DeveloperShards implements AutoCloseable {
+    private final ConsistentHashRing ring;
+    // shard 마다 별도 스레드에서 실행하므로 호출한 쪽 트랜잭션에 참여하지 않고 새로 연다.
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ExecutorService executor;
+
+    private DeveloperShards(ConsistentHashRing ring, TransactionTemplate readOnlyTransactionTemplate,
+                            ExecutorService executor) {
+        this.ring = ring;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+        this.executor = executor;
+    }
+
+    public static DeveloperShards single() {
+        return new DeveloperShards(null, null, null);
+    }
+
+    public static DeveloperShards sharded(ConsistentHashRing ring, TransactionTemplate readOnlyTransactionTemplate,
+                                          ExecutorService executor) {
+        return new DeveloperShards(ring, readOnlyTransactionTemplate, executor);
+    }
+
+    public boolean isSharded() {
+        return ring != null;
+    }
+
+    public int getShardCount() {
+        return ring == null ? 1 : ring.getShardCount();
+    }
+
+    public int shardOf(String memberId) {
+        return ring == null ? ShardContext.HOME_SHARD : ring.shardOf(memberId);
+    }
+
+    public <T> T callFor(String memberId, Supplier<T> task) {
+        if (ring == null) {
+            return task.get();
+        }
+        return ShardContext.callOn(ring.shardOf(memberId), task);
+    }
+
+    public <T> T callOn(int shard, Supplier<T> task) {
+        if (ring == null) {
+            return task.get();
+        }
+        return ShardContext.callOn(shard, task);
+    }
+
+    // shard 번호 -> 그 shard에 속한 item (입력 순서 유지)
+    public <T> Map<Integer, List<T>> partition(Collection<T> items, Function<T, String> memberIdOf) {
+        if (ring == null) {
+            return Collections.singletonMap(ShardContext.HOME_SHARD, new ArrayList<>(items));
+        }
+
+        Map<Integer, List<T>> partitions = new LinkedHashMap<>();
+        for (T item : items) {
+            partitions.computeIfAbsent(ring.shardOf(memberIdOf.apply(item)), shard -> new ArrayList<>())
+                    .add(item);
+        }
+        return partitions;
+    }
+
+    // shard 번호 순서의 결과. 하나라도 실패하면 그 예외를 던진다.
+    public <T> List<T> scatter(Supplier<T> query) {
+        if (ring == null) {
+            return Collections.singletonList(query.get());
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(ring.getShardCount());
+        for (int shard = 0; shard < ring.getShardCount(); shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> ShardContext.callOn(target,
+                    () -> readOnlyTransactionTemplate.execute(status -> query.get())), executor));
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    // query는 shard 마다 order 순으로 정렬된 최대 limit 건을 돌려줘야 한다. (keyset: id > cursor order by id limit n)
+    // 합친 결과의 앞 limit 건은 전체를 한 DB에서 읽은 것과 같다.
+    public <T> List<T> scatterMerged(Supplier<List<T>> query, Comparator<? super T> order, int limit) {
+        List<List<T>> results = scatter(query);
+        if (results.size() == 1) {
+            List<T> result = results.get(0);
+            return result.size() > limit ? result.subList(0, limit) : result;
+        }
+
+        // (shard 번호, 다음 위치) 를 각 shard의 다음 값 순으로
+        PriorityQueue<int[]> heads = new PriorityQueue<>(results.size(),
+                (a, b) -> order.compare(results.get(a[0]).get(a[1]), results.get(b[0]).get(b[1])));
+        for (int shard = 0; shard < results.size(); shard++) {
+            if (!results.get(shard).isEmpty()) {
+                heads.add(new int[]{shard, 0});
+            }
+        }
+
+        List<T> merged = new ArrayList<>(limit == Integer.MAX_VALUE ? 16 : limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<T> result = results.get(head[0]);
+            merged.add(result.get(head[1]));
+            if (++head[1] < result.size()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import java.util.function.Supplier;
+
+// 현재 스레드가 쓸 shard 번호. ShardRoutingDataSource가 connection을 꺼낼 때 본다.
+// 지정하지 않으면 home shard(0): outbox 발행, 변경 이력 등 shard로 나누지 않은 테이블
+public final class ShardContext {
+    public static final int HOME_SHARD = 0;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int currentShard() {
+        Integer shard = CURRENT.get();
+        return shard == null ? HOME_SHARD : shard;
+    }
+
+    // 끝나면 이전 shard로 되돌린다.
+    public static <T> T callOn(int shard, Supplier<T> task) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.List;
+
+// shard 번호 순서의 connection pool. bean이 아닌 pool 들을 애플리케이션이 끝날 때 닫는다.
+public class ShardDataSources implements AutoCloseable {
+    private final List<HikariDataSource> dataSources;
+
+    public ShardDataSources(List<HikariDataSource> dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    public List<HikariDataSource> getDataSources() {
+        return dataSources;
+    }
+
+    @Override
+    public void close() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,14 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 이 파라미터의 memberId로 shard를 정해서 메서드 전체(트랜잭션 포함)를 그 shard 하나에서 실행한다. (ShardKeyAspect)
+// String 파라미터는 값 그대로, 그 외에는 value 프로퍼티(기본 memberId)를 읽는다.
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+    String value() default "memberId";
+}
@@ -0,0 +1,70 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+// @ShardKey 파라미터가 있는 메서드를 그 memberId의 shard에서 실행한다.
+// @Transactional 보다 바깥에서 shard를 정해야 하므로 가장 먼저 실행되도록 둔다.
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ShardKeyAspect {
+    private final DeveloperShards developerShards;
+
+    public ShardKeyAspect(DeveloperShards developerShards) {
+        this.developerShards = developerShards;
+    }
+
+    @Around("execution(* com.fastcampus.programming.dmaker..*(.., @com.fastcampus.programming.dmaker.shard.ShardKey (*), ..))")
+    public Object routeToShard(ProceedingJoinPoint joinPoint) throws Throwable {
+        String memberId = shardKeyOf(joinPoint);
+        if (memberId == null) {
+            // validation에서 걸러질 요청. shard 없이(home) 그대로 실행한다.
+            return joinPoint.proceed();
+        }
+
+        try {
+            return developerShards.callFor(memberId, () -> {
+                try {
+                    return joinPoint.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e);
+                }
+            });
+        } catch (UndeclaredThrowableException e) {
+            throw e.getUndeclaredThrowable();
+        }
+    }
+
+    private static String shardKeyOf(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof ShardKey) {
+                    return memberIdOf(args[i], ((ShardKey) annotation).value());
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String memberIdOf(Object arg, String property) {
+        if (arg == null || arg instanceof String) {
+            return (String) arg;
+        }
+        Object value = PropertyAccessorFactory.forBeanPropertyAccess(arg).getPropertyValue(property);
+        return value == null ? null : value.toString();
+    }
+}
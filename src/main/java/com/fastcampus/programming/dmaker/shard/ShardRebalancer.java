@@ -0,0 +1,163 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// shard를 늘린 뒤(또는 shard 없이 쌓인 데이터를 나눌 때) 각 shard를 id 순으로 훑어서
+// ring 상 다른 shard에 속하는 developer row와 그 memberId의 retired_developer row, archived_developer row를 옮긴다.
+// 옮길 shard에 먼저 넣고 원래 shard에서 지우므로 중간에 실패해도 row를 잃지 않고, 다시 실행하면 이어서 옮긴다.
+// 요청을 받지 않는 상태에서 실행한다. (./gradlew reshard)
+@Slf4j
+public class ShardRebalancer {
+    private final List<NamedParameterJdbcTemplate> shards;
+    private final ConsistentHashRing ring;
+    private final int batchSize;
+
+    public ShardRebalancer(List<? extends DataSource> shards, ConsistentHashRing ring, int batchSize) {
+        if (shards.size() != ring.getShardCount()) {
+            throw new IllegalArgumentException("shard count does not match the ring");
+        }
+        this.shards = shards.stream().map(NamedParameterJdbcTemplate::new).collect(Collectors.toList());
+        this.ring = ring;
+        this.batchSize = batchSize;
+    }
+
+    // 옮긴 developer row 수
+    public long rebalance() {
+        long moved = 0;
+        for (int source = 0; source < shards.size(); source++) {
+            moved += drain(source);
+            drainArchived(source);
+        }
+        log.info("shard rebalance finished, {} developers moved", moved);
+
+        return moved;
+    }
+
+    private long drain(int source) {
+        NamedParameterJdbcTemplate sourceShard = shards.get(source);
+        long moved = 0;
+        long lastId = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = sourceShard.queryForList(
+                    "select * from developer where id > :id order by id limit :limit",
+                    new MapSqlParameterSource("id", lastId).addValue("limit", batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            // 옮길 shard -> row
+            Map<Integer, List<Map<String, Object>>> misplaced = new LinkedHashMap<>();
+            for (Map<String, Object> row : rows) {
+                int target = ring.shardOf((String) row.get("member_id"));
+                if (target != source) {
+                    misplaced.computeIfAbsent(target, shard -> new ArrayList<>()).add(row);
+                }
+            }
+            for (Map.Entry<Integer, List<Map<String, Object>>> entry : misplaced.entrySet()) {
+                move(sourceShard, shards.get(entry.getKey()), entry.getValue());
+                moved += entry.getValue().size();
+            }
+            if (!misplaced.isEmpty()) {
+                log.info("moved {} developers from shard {}", misplaced.values().stream().mapToInt(List::size).sum(),
+                        source);
+            }
+
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+        }
+
+        return moved;
+    }
+
+    private void drainArchived(int source) {
+        NamedParameterJdbcTemplate sourceShard = shards.get(source);
+        long lastId = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = sourceShard.queryForList(
+                    "select * from archived_developer where id > :id order by id limit :limit",
+                    new MapSqlParameterSource("id", lastId).addValue("limit", batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            Map<Integer, List<Map<String, Object>>> misplaced = new LinkedHashMap<>();
+            for (Map<String, Object> row : rows) {
+                int target = ring.shardOf((String) row.get("member_id"));
+                if (target != source) {
+                    misplaced.computeIfAbsent(target, shard -> new ArrayList<>()).add(row);
+                }
+            }
+            for (Map.Entry<Integer, List<Map<String, Object>>> entry : misplaced.entrySet()) {
+                NamedParameterJdbcTemplate target = shards.get(entry.getKey());
+                MapSqlParameterSource byIds = new MapSqlParameterSource("ids", entry.getValue().stream()
+                        .map(row -> ((Number) row.get("id")).longValue())
+                        .collect(Collectors.toList()));
+                Set<Long> copied = new HashSet<>(target.queryForList(
+                        "select id from archived_developer where id in (:ids)", byIds, Long.class));
+                insert(target, "archived_developer", entry.getValue().stream()
+                        .filter(row -> !copied.contains(((Number) row.get("id")).longValue()))
+                        .collect(Collectors.toList()));
+                sourceShard.update("delete from archived_developer where id in (:ids)", byIds);
+            }
+
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+        }
+    }
+
+    private void move(NamedParameterJdbcTemplate source, NamedParameterJdbcTemplate target,
+                      List<Map<String, Object>> developers) {
+        List<String> memberIds = developers.stream()
+                .map(row -> (String) row.get("member_id"))
+                .collect(Collectors.toList());
+        MapSqlParameterSource byMemberIds = new MapSqlParameterSource("memberIds", memberIds);
+
+        // 지난 실행에서 이미 넣은 row는 건너뛴다.
+        Set<Object> copied = new HashSet<>(target.queryForList(
+                "select member_id from developer where member_id in (:memberIds)", byMemberIds, String.class));
+        insert(target, "developer", developers.stream()
+                .filter(row -> !copied.contains(row.get("member_id")))
+                .collect(Collectors.toList()));
+
+        List<Map<String, Object>> retiredDevelopers = source.queryForList(
+                "select * from retired_developer where member_id in (:memberIds)", byMemberIds);
+        if (!retiredDevelopers.isEmpty()) {
+            Set<Object> copiedRetired = new HashSet<>(target.queryForList(
+                    "select id from retired_developer where member_id in (:memberIds)", byMemberIds, Long.class));
+            insert(target, "retired_developer", retiredDevelopers.stream()
+                    .filter(row -> !copiedRetired.contains(((Number) row.get("id")).longValue()))
+                    .collect(Collectors.toList()));
+        }
+
+        source.update("delete from retired_developer where member_id in (:memberIds)", byMemberIds);
+        source.update("delete from developer where member_id in (:memberIds)", byMemberIds);
+    }
+
+    // id(전체 shard에서 겹치지 않는다)를 포함해서 읽은 그대로 넣는다.
+    private static void insert(NamedParameterJdbcTemplate target, String table, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String sql = "insert into " + table + " (" + String.join(", ", columns) + ") values (" +
+                columns.stream().map(column -> ":" + column).collect(Collectors.joining(", ")) + ")";
+        SqlParameterSource[] batch = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            batch[i] = new MapSqlParameterSource(rows.get(i));
+        }
+        target.batchUpdate(sql, batch);
+    }
+}
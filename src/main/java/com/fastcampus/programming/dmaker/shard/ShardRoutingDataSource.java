@@ -0,0 +1,28 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+// connection을 꺼낼 때 ShardContext의 shard pool에서 꺼낸다.
+// shard는 트랜잭션 안에서 정해질 수 있으므로 LazyConnectionDataSourceProxy 뒤에 둔다. (ShardingConfig)
+public class ShardRoutingDataSource extends AbstractDataSource {
+    private final List<? extends DataSource> shards;
+
+    public ShardRoutingDataSource(List<? extends DataSource> shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return shards.get(ShardContext.currentShard()).getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return shards.get(ShardContext.currentShard()).getConnection(username, password);
+    }
+}
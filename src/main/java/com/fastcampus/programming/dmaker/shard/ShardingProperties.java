@@ -0,0 +1,40 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// dmaker.sharding (shard 목록을 list로 받기 위해 @Value 대신 쓴다.)
+// shard 순서가 곧 shard 번호이므로 늘릴 때는 뒤에만 붙인다. (0번은 home shard)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dmaker.sharding")
+public class ShardingProperties {
+    private boolean enabled;
+    // shard 당 ring 위의 점 개수. 많을수록 shard 별 key 수가 고르다.
+    private int virtualNodes;
+    // 목록 조회(scatter-gather)를 동시에 실행할 스레드 수
+    private int scatterThreads;
+    private List<Shard> shards = new ArrayList<>();
+    private Rebalance rebalance = new Rebalance();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Rebalance {
+        // true: 시작할 때 ShardRebalancer로 자기 shard가 아닌 row를 옮긴다. (./gradlew reshard)
+        private boolean enabled;
+        private int batchSize;
+    }
+}
@@ -0,0 +1,253 @@
+package com.fastcampus.programming.dmaker.stats;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperCountDto;
+import com.fastcampus.programming.dmaker.repository.ArchivedDeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// DeveloperLevel x DeveloperSkillType x StatusCode 별 인원 수
+// 시작할 때 GROUP BY 한 번으로 채우고, 이후에는 커밋된 변경만큼 증감한다.
+// 증감이 빠진 경우(다른 경로로 DB를 직접 수정 등)는 주기적인 reconcile로 맞춘다.
+// - reconcile은 lock 없이 GROUP BY 하고, 그동안 커밋 중이었거나 커밋된 칸은 GROUP BY 결과에 들어갔는지 알 수 없으므로
+//   그대로 둔다. (그 칸은 다음 reconcile 때 맞춘다.) 나머지 칸만 write lock을 잡고 메모리에서 바꾼다.
+//   커밋은 DB I/O 동안 reconcile을 기다리지 않는다. (증감 반영만 read lock)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperStats {
+    private static final DeveloperLevel[] LEVELS = DeveloperLevel.values();
+    private static final DeveloperSkillType[] SKILL_TYPES = DeveloperSkillType.values();
+    private static final StatusCode[] STATUS_CODES = StatusCode.values();
+
+    private final DeveloperRepository developerRepository;
+    private final ArchivedDeveloperRepository archivedDeveloperRepository;
+    private final DeveloperShards developerShards;
+    private final AtomicLongArray counts =
+            new AtomicLongArray(LEVELS.length * SKILL_TYPES.length * STATUS_CODES.length);
+    private final ReadWriteLock reconciling = new ReentrantReadWriteLock();
+    // reconcile 마다 올린다. 칸 별로 커밋 중인 트랜잭션 수와, 마지막으로 커밋이 지나간 epoch
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicIntegerArray committing =
+            new AtomicIntegerArray(LEVELS.length * SKILL_TYPES.length * STATUS_CODES.length);
+    private final AtomicLongArray touchedEpoch =
+            new AtomicLongArray(LEVELS.length * SKILL_TYPES.length * STATUS_CODES.length);
+    // counts가 바뀔 때마다 올린다. getCounts는 이 값이 그대로면 만들어 둔 목록을 다시 쓴다.
+    private final AtomicLong changes = new AtomicLong();
+    private volatile CountsView view = new CountsView(-1, Collections.emptyList());
+
+    @PostConstruct
+    public void seed() {
+        long[] snapshot = loadSnapshot();
+        for (int i = 0; i < snapshot.length; i++) {
+            counts.set(i, snapshot[i]);
+        }
+        changes.incrementAndGet();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${dmaker.stats.reconcile-interval}",
+            initialDelayString = "${dmaker.stats.reconcile-interval}"
+    )
+    public void reconcile() {
+        long start;
+        reconciling.writeLock().lock();
+        try {
+            start = epoch.incrementAndGet();
+        } finally {
+            reconciling.writeLock().unlock();
+        }
+
+        long[] snapshot = loadSnapshot();
+
+        long drift = 0;
+        int skipped = 0;
+        reconciling.writeLock().lock();
+        try {
+            for (int i = 0; i < snapshot.length; i++) {
+                if (committing.get(i) > 0 || touchedEpoch.get(i) >= start) {
+                    skipped++;
+                    continue;
+                }
+                drift += Math.abs(counts.getAndSet(i, snapshot[i]) - snapshot[i]);
+            }
+            changes.incrementAndGet();
+        } finally {
+            reconciling.writeLock().unlock();
+        }
+        if (drift > 0) {
+            log.warn("developer stats reconciled, drift: {}", drift);
+        }
+        if (skipped > 0) {
+            log.debug("developer stats reconcile skipped {} counts committed during the snapshot", skipped);
+        }
+    }
+
+    // null 인 조건은 전체. 배열 조회만 하므로 할당이 없다.
+    public long count(DeveloperLevel developerLevel, DeveloperSkillType developerSkillType, StatusCode statusCode) {
+        long count = 0;
+        for (int level = from(developerLevel); level < to(developerLevel, LEVELS.length); level++) {
+            for (int skill = from(developerSkillType); skill < to(developerSkillType, SKILL_TYPES.length); skill++) {
+                for (int status = from(statusCode); status < to(statusCode, STATUS_CODES.length); status++) {
+                    count += counts.get(indexOf(level, skill, status));
+                }
+            }
+        }
+
+        return count;
+    }
+
+    // 전체 조합 (0 건 포함). 변경이 없으면 만들어 둔 (수정할 수 없는) 목록을 그대로 돌려주므로 할당이 없다.
+    public List<DeveloperCountDto> getCounts() {
+        long stamp = changes.get();
+        CountsView current = view;
+        if (current.stamp == stamp) {
+            return current.counts;
+        }
+
+        // 만드는 사이 바뀐 값이 섞여도 stamp는 이전 값이므로 다음 조회 때 다시 만든다.
+        List<DeveloperCountDto> result = buildCounts();
+        view = new CountsView(stamp, result);
+        return result;
+    }
+
+    private List<DeveloperCountDto> buildCounts() {
+        List<DeveloperCountDto> result = new ArrayList<>(counts.length());
+        for (DeveloperLevel level : LEVELS) {
+            for (DeveloperSkillType skill : SKILL_TYPES) {
+                for (StatusCode status : STATUS_CODES) {
+                    result.add(DeveloperCountDto.builder()
+                            .developerLevel(level)
+                            .developerSkillType(skill)
+                            .statusCode(status)
+                            .count(counts.get(indexOf(level.ordinal(), skill.ordinal(), status.ordinal())))
+                            .build());
+                }
+            }
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    // 롤백된 변경이 반영되지 않도록 커밋된 뒤에 증감한다. (트랜잭션 밖이면 바로)
+    public void addAfterCommit(
+            DeveloperLevel developerLevel, DeveloperSkillType developerSkillType, StatusCode statusCode, long delta
+    ) {
+        if (developerLevel == null || developerSkillType == null || statusCode == null) {
+            return;
+        }
+        int index = indexOf(developerLevel.ordinal(), developerSkillType.ordinal(), statusCode.ordinal());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reconciling.readLock().lock();
+            try {
+                touchedEpoch.set(index, epoch.get());
+                add(index, delta);
+            } finally {
+                reconciling.readLock().unlock();
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    private boolean committingMarked;
+
+                    // DB 커밋 전에 표시해 두면 그 사이 시작한 reconcile은 이 칸을 건너뛴다.
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        committing.incrementAndGet(index);
+                        committingMarked = true;
+                    }
+
+                    @Override
+                    public void afterCommit() {
+                        reconciling.readLock().lock();
+                        try {
+                            add(index, delta);
+                        } finally {
+                            reconciling.readLock().unlock();
+                        }
+                    }
+
+                    // 표시를 지우기 전에 epoch를 남긴다. (커밋이 reconcile의 GROUP BY와 겹쳤을 수 있다.)
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (committingMarked) {
+                            committingMarked = false;
+                            touchedEpoch.set(index, epoch.get());
+                            committing.decrementAndGet(index);
+                        }
+                    }
+                });
+    }
+
+    private void add(int index, long delta) {
+        counts.addAndGet(index, delta);
+        changes.incrementAndGet();
+    }
+
+    private long[] loadSnapshot() {
+        long[] snapshot = new long[counts.length()];
+        // shard 마다 GROUP BY 한 결과를 더한다. archive로 옮긴 developer도 센다.
+        for (List<DeveloperCountDto> shardCounts : developerShards.scatter(this::countShard)) {
+            for (DeveloperCountDto count : shardCounts) {
+                if (count.getDeveloperLevel() == null || count.getDeveloperSkillType() == null
+                        || count.getStatusCode() == null) {
+                    continue;
+                }
+                snapshot[indexOf(count.getDeveloperLevel().ordinal(),
+                        count.getDeveloperSkillType().ordinal(),
+                        count.getStatusCode().ordinal())] += count.getCount();
+            }
+        }
+
+        return snapshot;
+    }
+
+    private List<DeveloperCountDto> countShard() {
+        List<DeveloperCountDto> shardCounts =
+                new ArrayList<>(developerRepository.countDevelopersGroupByLevelAndSkillTypeAndStatusCode());
+        shardCounts.addAll(archivedDeveloperRepository.countArchivedDevelopersGroupByLevelAndSkillTypeAndStatusCode());
+        return shardCounts;
+    }
+
+    private static final class CountsView {
+        private final long stamp;
+        private final List<DeveloperCountDto> counts;
+
+        private CountsView(long stamp, List<DeveloperCountDto> counts) {
+            this.stamp = stamp;
+            this.counts = counts;
+        }
+    }
+
+    private static int indexOf(int level, int skill, int status) {
+        return (level * SKILL_TYPES.length + skill) * STATUS_CODES.length + status;
+    }
+
+    private static int from(Enum<?> value) {
+        return value == null ? 0 : value.ordinal();
+    }
+
+    private static int to(Enum<?> value, int length) {
+        return value == null ? length : value.ordinal() + 1;
+    }
+}
@@ -4,7 +4,7 @@ import com.fastcampus.programming.dmaker.exception.DMakerException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_JUINOR_EXPERIENCE_YEARS;
 import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MIN_SEINOR_EXPERIENCE_YEARS;
@@ -20,10 +20,15 @@ public enum DeveloperLevel {
     SENIOR("시니어 개발자", years -> years >= MIN_SEINOR_EXPERIENCE_YEARS);
 
     private final String description;
-    private final Function<Integer, Boolean> validateFunction;
+    // int -> boolean 이라 boxing 없이 확인한다.
+    private final IntPredicate validateFunction;
 
-    public void validateExperienceYears(Integer years) {
-        if(!validateFunction.apply(years))
+    public boolean isValidExperienceYears(int years) {
+        return validateFunction.test(years);
+    }
+
+    public void validateExperienceYears(int years) {
+        if (!isValidExperienceYears(years))
             throw new DMakerException(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED);
     }
 }
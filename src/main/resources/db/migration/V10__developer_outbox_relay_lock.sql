@@ -0,0 +1,11 @@
+-- DeveloperOutboxRelay가 batch 마다 select ... for update 로 잡는 row.
+-- 여러 인스턴스의 relay가 같은 이벤트를 중복 발행하거나 publish_seq를 겹쳐 매기지 않도록 발행을 한 곳씩 하게 한다.
+-- last_publish_seq 는 마지막으로 매긴 publish_seq (/developers/changes cursor)
+create table developer_outbox_relay_lock (
+    id int not null,
+    last_publish_seq bigint not null,
+    primary key (id)
+);
+
+insert into developer_outbox_relay_lock (id, last_publish_seq)
+select 1, coalesce(max(publish_seq), 0) from developer_outbox;
@@ -0,0 +1,3 @@
+-- /developer/{memberId}/history 는 changed_at, id 순 (id는 pooled sequence라 변경 순서가 아니다.)
+drop index ix_developer_audit_member_id_id;
+create index ix_developer_audit_member_id_changed_at_id on developer_audit (member_id, changed_at, id);
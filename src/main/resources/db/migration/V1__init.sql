@@ -0,0 +1,22 @@
+create table developer (
+    id bigint generated by default as identity,
+    age integer,
+    created_at timestamp,
+    developer_level varchar(255),
+    developer_skill_type varchar(255),
+    experience_years integer,
+    member_id varchar(255),
+    name varchar(255),
+    status_code varchar(255),
+    updated_at timestamp,
+    primary key (id)
+);
+
+create table retired_developer (
+    id bigint generated by default as identity,
+    created_at timestamp,
+    member_id varchar(255),
+    name varchar(255),
+    updated_at timestamp,
+    primary key (id)
+);
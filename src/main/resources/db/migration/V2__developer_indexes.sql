@@ -0,0 +1,5 @@
+-- findByMemberId 조회와 createDeveloper 중복 검사를 unique index 하나로 처리한다.
+create unique index ux_developer_member_id on developer (member_id);
+
+-- status 별 목록 조회와 keyset pagination (status_code = ? and id > ? order by id)
+create index ix_developer_status_code_id on developer (status_code, id);
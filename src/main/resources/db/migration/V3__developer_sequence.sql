@@ -0,0 +1,4 @@
+-- IDENTITY 대신 sequence(pooled, allocationSize = 50)를 사용해서 JDBC batch insert가 가능하도록 한다.
+create sequence developer_seq start with 1 increment by 50;
+-- pooled optimizer는 sequence 값 N을 받으면 N-49 .. N 을 쓴다. 기존 id와 겹치지 않게 max(id) + 50 부터 시작한다.
+alter sequence developer_seq restart with (select coalesce(max(id), 0) + 50 from developer);
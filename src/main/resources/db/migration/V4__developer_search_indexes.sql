@@ -0,0 +1,9 @@
+-- /developers/search : status_code + level/skill 동등 조건, id 순 keyset
+-- (retire-developers 필터 조건도 같은 index를 쓴다.)
+create index ix_developer_status_level_skill_id on developer (status_code, developer_level, developer_skill_type, id);
+
+-- /developers/search : experienceYears 범위 조건
+create index ix_developer_status_experience_years on developer (status_code, experience_years);
+
+-- /developers/search : name prefix (name like 'prefix%')
+create index ix_developer_status_name on developer (status_code, name);
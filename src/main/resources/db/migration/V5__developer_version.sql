@@ -0,0 +1,2 @@
+-- optimistic locking (Developer.version). 기존 row는 0부터 시작한다.
+alter table developer add column version bigint default 0 not null;
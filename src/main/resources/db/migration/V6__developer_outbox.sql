@@ -0,0 +1,16 @@
+-- transactional outbox: 개발자 변경과 같은 트랜잭션에서 기록하고 DeveloperOutboxRelay가 발행한다.
+-- publish_seq 는 발행할 때 relay가 순서대로 매기는 번호 (/developers/changes cursor)
+create sequence developer_outbox_seq start with 1 increment by 50;
+
+create table developer_outbox (
+    id bigint not null,
+    member_id varchar(255),
+    event_type varchar(255),
+    payload varchar(4000),
+    created_at timestamp,
+    publish_seq bigint,
+    primary key (id)
+);
+
+-- 미발행(publish_seq is null) 조회와 publish_seq 순 조회
+create index ix_developer_outbox_publish_seq_id on developer_outbox (publish_seq, id);
@@ -0,0 +1,16 @@
+-- 개발자 변경 이력 (누가, 언제, 무엇을 before -> after). DeveloperAuditWriter가 batch insert 한다.
+create sequence developer_audit_seq start with 1 increment by 50;
+
+create table developer_audit (
+    id bigint not null,
+    member_id varchar(255),
+    event_type varchar(255),
+    actor varchar(255),
+    before_snapshot varchar(4000),
+    after_snapshot varchar(4000),
+    changed_at timestamp,
+    primary key (id)
+);
+
+-- /developer/{memberId}/history
+create index ix_developer_audit_member_id_id on developer_audit (member_id, id);
@@ -0,0 +1,12 @@
+-- POST /create-developer Idempotency-Key 의 JDBC 보관소 (dmaker.idempotency.jdbc.enabled)
+create table idempotency_key (
+    idempotency_key varchar(255) not null,
+    request_hash varchar(64),
+    response varchar(4000),
+    created_at timestamp,
+    expires_at timestamp,
+    primary key (idempotency_key)
+);
+
+-- 만료된 key 정리
+create index ix_idempotency_key_expires_at on idempotency_key (expires_at);
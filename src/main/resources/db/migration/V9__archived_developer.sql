@@ -0,0 +1,22 @@
+-- 오래전에 RETIRED 된 developer row를 옮겨 두는 곳 (DeveloperArchiver). 조회만 한다.
+create table archived_developer (
+    id bigint not null,
+    age integer,
+    created_at timestamp,
+    developer_level varchar(255),
+    developer_skill_type varchar(255),
+    experience_years integer,
+    member_id varchar(255),
+    name varchar(255),
+    status_code varchar(255),
+    updated_at timestamp,
+    version bigint,
+    archived_at timestamp,
+    primary key (id)
+);
+
+-- getDeveloperDetail fallback, createDeveloper 중복 검사
+create index ix_archived_developer_member_id on archived_developer (member_id);
+
+-- 옮길 대상 조회 (status_code = 'RETIRED' and updated_at < ?)
+create index ix_developer_status_updated_at on developer (status_code, updated_at);
@@ -0,0 +1,179 @@
+package com.fastcampus.programming.dmaker.archive;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.RetireDevelopers;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.repository.ArchivedDeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.service.DeveloperBulkService;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import com.fastcampus.programming.dmaker.stats.DeveloperStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.ARCHIVED_DEVELOPERS;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.ARCHIVE_RUN;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.NO_DEVELOPER;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 테스트에서 archive()를 직접 부른다. 오래전에 RETIRED 된 row는 updated_at 을 되돌려서 만든다.
+@SpringBootTest(properties = {
+        "dmaker.archive.enabled=true",
+        "dmaker.archive.interval=PT1H",
+        "dmaker.archive.retired-for=P30D",
+        "dmaker.archive.batch-size=2",
+        "dmaker.archive.max-batches=2"
+})
+class DeveloperArchiverTest {
+    @Autowired
+    private DeveloperArchiver developerArchiver;
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    @Autowired
+    private DeveloperBulkService developerBulkService;
+
+    @Autowired
+    private DeveloperStats developerStats;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private RetiredDeveloperRepository retiredDeveloperRepository;
+
+    @Autowired
+    private ArchivedDeveloperRepository archivedDeveloperRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void archive_movesOldRetiredDevelopersInBoundedBatches() {
+        List<String> old = Arrays.asList("archived1", "archived2", "archived3", "archived4", "archived5");
+        old.forEach(this::createDeveloper);
+        createDeveloper("archiveRecent");
+        createDeveloper("archiveEmployed");
+        developerBulkService.retireDevelopers(RetireDevelopers.Request.builder()
+                .memberIds(Arrays.asList("archived1", "archived2", "archived3", "archived4", "archived5",
+                        "archiveRecent"))
+                .build());
+        old.forEach(memberId -> retiredDaysAgo(memberId, 31));
+        developerStats.reconcile();
+        long retired = developerStats.count(null, null, StatusCode.RETIRED);
+        double archivedBefore = meterRegistry.get(ARCHIVED_DEVELOPERS).counter().count();
+
+        // batch-size 2 x max-batches 2
+        assertEquals(4, developerArchiver.archive());
+        assertEquals(1, developerArchiver.archive());
+        assertEquals(0, developerArchiver.archive());
+
+        for (String memberId : old) {
+            assertEquals(0, count("developer", memberId));
+            assertEquals(0, count("retired_developer", memberId));
+            assertEquals(1, count("archived_developer", memberId));
+        }
+        assertEquals(1, count("developer", "archiveRecent"));
+        assertEquals(1, count("retired_developer", "archiveRecent"));
+        assertEquals(1, count("developer", "archiveEmployed"));
+        assertEquals(5, meterRegistry.get(ARCHIVED_DEVELOPERS).counter().count() - archivedBefore);
+        assertTrue(meterRegistry.get(ARCHIVE_RUN).timer().count() >= 3);
+
+        // archive도 센다.
+        developerStats.reconcile();
+        assertEquals(retired, developerStats.count(null, null, StatusCode.RETIRED));
+    }
+
+    @Test
+    void archivedDeveloper_isStillFoundByMemberId() {
+        createDeveloper("archiveLookup");
+        dmakerService.deleteDeveloper("archiveLookup");
+        retiredDaysAgo("archiveLookup", 31);
+        developerArchiver.archive();
+        assertEquals(1, count("archived_developer", "archiveLookup"));
+
+        DeveloperDetailDto developerDetail = dmakerService.getDeveloperDetail("archiveLookup");
+        assertEquals(StatusCode.RETIRED, developerDetail.getStatusCode());
+        assertEquals("archive_name", developerDetail.getName());
+
+        // archive로 옮긴 memberId는 다시 쓸 수 없고, 수정/삭제 대상이 아니다.
+        DMakerException duplicated = assertThrows(DMakerException.class,
+                () -> createDeveloper("archiveLookup"));
+        assertEquals(DUPLICATED_MEMBER_ID, duplicated.getDMakerErrorCode());
+        DMakerException notFound = assertThrows(DMakerException.class,
+                () -> dmakerService.deleteDeveloper("archiveLookup"));
+        assertEquals(NO_DEVELOPER, notFound.getDMakerErrorCode());
+    }
+
+    // 후보로 고른 뒤 바뀐 row는 옮기지도, 지우지도 않는다.
+    @Test
+    void rowChangedAfterSelection_isNeitherCopiedNorDeleted() {
+        createDeveloper("archiveChanged");
+        dmakerService.deleteDeveloper("archiveChanged");
+        retiredDaysAgo("archiveChanged", 31);
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<String> memberIds = developerRepository.findMemberIdsByStatusCodeAndUpdatedAtBeforeForUpdate(
+                    StatusCode.RETIRED.name(), before, 100);
+            assertTrue(memberIds.contains("archiveChanged"));
+            retiredDaysAgo("archiveChanged", 0);
+
+            assertEquals(0, archivedDeveloperRepository.insertArchivedDevelopers(
+                    List.of("archiveChanged"), StatusCode.RETIRED, before, LocalDateTime.now()));
+            assertEquals(0, retiredDeveloperRepository.deleteArchivedRetiredDevelopers(List.of("archiveChanged")));
+            assertEquals(0, developerRepository.deleteDevelopersByMemberIdInAndStatusCodeAndUpdatedAtBefore(
+                    List.of("archiveChanged"), StatusCode.RETIRED, before));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(1, count("developer", "archiveChanged"));
+        assertEquals(1, count("retired_developer", "archiveChanged"));
+        assertEquals(0, count("archived_developer", "archiveChanged"));
+    }
+
+    private void retiredDaysAgo(String memberId, int days) {
+        jdbcTemplate.update("update developer set updated_at = ? where member_id = ?",
+                LocalDateTime.now().minusDays(days), memberId);
+    }
+
+    private int count(String table, String memberId) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from " + table + " where member_id = ?", Integer.class, memberId);
+    }
+
+    private void createDeveloper(String memberId) {
+        dmakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("archive_name")
+                .age(32)
+                .build());
+    }
+}
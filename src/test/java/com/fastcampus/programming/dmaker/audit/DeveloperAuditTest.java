@@ -0,0 +1,160 @@
+package com.fastcampus.programming.dmaker.audit;
+
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperAuditDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperHistoryDto;
+import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.entity.DeveloperAudit;
+import com.fastcampus.programming.dmaker.repository.DeveloperAuditRepository;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.ACTOR_HEADER;
+import static com.fastcampus.programming.dmaker.type.DeveloperEventType.*;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.JUNIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DeveloperAuditTest {
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DeveloperAuditRepository developerAuditRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void history_recordsBeforeAndAfterWithActor() throws Exception {
+        String memberId = "audit" + SEQUENCE.incrementAndGet();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ACTOR_HEADER, "hr-admin");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        dmakerService.createDeveloper(createRequest(memberId));
+        dmakerService.editDeveloper(memberId, editRequest(), null);
+        dmakerService.deleteDeveloper(memberId);
+
+        List<DeveloperAuditDto> history = awaitHistory(memberId, 3);
+        assertEquals(CREATED, history.get(0).getEventType());
+        assertEquals(EDITED, history.get(1).getEventType());
+        assertEquals(RETIRED, history.get(2).getEventType());
+        assertTrue(history.stream().allMatch(audit -> "hr-admin".equals(audit.getActor())));
+
+        assertNull(history.get(0).getBefore());
+        JsonNode editedBefore = objectMapper.readTree(history.get(1).getBefore());
+        JsonNode editedAfter = objectMapper.readTree(history.get(1).getAfter());
+        assertEquals(SENIOR.name(), editedBefore.get("developerLevel").asText());
+        assertEquals(JUNIOR.name(), editedAfter.get("developerLevel").asText());
+        assertEquals("EMPLOYED", objectMapper.readTree(history.get(2).getBefore()).get("statusCode").asText());
+        assertEquals("RETIRED", objectMapper.readTree(history.get(2).getAfter()).get("statusCode").asText());
+    }
+
+    @Test
+    void history_pagesWithCursor() throws Exception {
+        String memberId = "audit" + SEQUENCE.incrementAndGet();
+        dmakerService.createDeveloper(createRequest(memberId));
+        dmakerService.editDeveloper(memberId, editRequest(), null);
+        awaitHistory(memberId, 2);
+
+        DeveloperHistoryDto first = dmakerService.getDeveloperHistory(memberId, null, 1);
+        DeveloperHistoryDto second = dmakerService.getDeveloperHistory(memberId, first.getNextCursor(), 1);
+
+        assertEquals(CREATED, first.getHistory().get(0).getEventType());
+        assertEquals(EDITED, second.getHistory().get(0).getEventType());
+        assertNull(second.getNextCursor());
+        // X-Actor 헤더가 없는 요청 (ServletTestExecutionListener가 빈 MockHttpServletRequest를 묶어둔다.)
+        assertEquals(DeveloperAuditor.ANONYMOUS, first.getHistory().get(0).getActor());
+    }
+
+    // 다른 인스턴스의 sequence 블록이면 나중 변경의 id가 더 작을 수 있다. 순서는 changedAt 으로 정한다.
+    @Test
+    void history_isOrderedByChangedAtNotId() {
+        String memberId = "audit" + SEQUENCE.incrementAndGet();
+        LocalDateTime now = LocalDateTime.now();
+        // id는 저장 순서대로: EDITED < CREATED < RETIRED
+        developerAuditRepository.saveAll(List.of(
+                DeveloperAudit.builder().memberId(memberId).eventType(EDITED).changedAt(now).build(),
+                DeveloperAudit.builder().memberId(memberId).eventType(CREATED).changedAt(now.minusSeconds(1)).build(),
+                DeveloperAudit.builder().memberId(memberId).eventType(RETIRED).changedAt(now).build()));
+
+        DeveloperHistoryDto first = dmakerService.getDeveloperHistory(memberId, null, 2);
+        DeveloperHistoryDto second = dmakerService.getDeveloperHistory(memberId, first.getNextCursor(), 2);
+
+        assertEquals(List.of(CREATED, EDITED), first.getHistory().stream()
+                .map(DeveloperAuditDto::getEventType).collect(Collectors.toList()));
+        assertEquals(RETIRED, second.getHistory().get(0).getEventType());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void rolledBack_leavesNoHistory() {
+        String memberId = "audit" + SEQUENCE.incrementAndGet();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            dmakerService.createDeveloper(createRequest(memberId));
+            status.setRollbackOnly();
+        });
+
+        assertTrue(dmakerService.getDeveloperHistory(memberId, null, 10).getHistory().isEmpty());
+    }
+
+    // writer 스레드가 비동기로 쓰므로 기대한 건수가 보일 때까지 기다린다.
+    private List<DeveloperAuditDto> awaitHistory(String memberId, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        List<DeveloperAuditDto> history;
+        while ((history = dmakerService.getDeveloperHistory(memberId, null, 10).getHistory()).size() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(expected, history.size());
+        return history;
+    }
+
+    private static CreateDeveloper.Request createRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(32)
+                .build();
+    }
+
+    private static EditDeveloper.Request editRequest() {
+        return EditDeveloper.Request.builder()
+                .developerLevel(JUNIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(2)
+                .build();
+    }
+}
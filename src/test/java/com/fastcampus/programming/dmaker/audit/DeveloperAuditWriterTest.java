@@ -0,0 +1,132 @@
+package com.fastcampus.programming.dmaker.audit;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.entity.DeveloperAudit;
+import com.fastcampus.programming.dmaker.repository.DeveloperAuditRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.AUDIT_DROPPED;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.AUDIT_FAILED;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.AUDIT_WRITTEN;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperAuditWriterTest {
+    @Mock
+    private DeveloperAuditRepository developerAuditRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<DeveloperAudit> saved = Collections.synchronizedList(new ArrayList<>());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void offer_beforeStart_writesImmediately() {
+        DeveloperAuditWriter writer = writer(10, 10);
+
+        writer.offer(record("before"));
+
+        assertEquals(1, saved.size());
+        assertEquals("before", saved.get(0).getMemberId());
+        assertNull(saved.get(0).getBeforeSnapshot());
+    }
+
+    // 대기열(2건)보다 많이 몰려도 버려지는 이력 없이 모두 쓰이고, stop() 시 남은 이력이 flush 된다.
+    @Test
+    void offer_fullQueue_neitherBlocksForeverNorDrops() throws Exception {
+        DeveloperAuditWriter writer = writer(2, 100);
+        writer.start();
+
+        int threads = 4;
+        int perThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    writer.offer(record("audit" + thread + "-" + i));
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        writer.stop();
+
+        assertFalse(writer.isRunning());
+        assertEquals(threads * perThread, saved.size());
+        assertEquals(threads * perThread, meterRegistry.counter(AUDIT_WRITTEN).count());
+    }
+
+    // insert가 실패해도 버리지 않고 backoff 뒤에 같은 batch를 다시 쓴다.
+    @Test
+    void failedWrite_isRetried() {
+        given(developerAuditRepository.saveAll(anyList()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willAnswer(invocation -> {
+                    List<DeveloperAudit> audits = invocation.getArgument(0);
+                    saved.addAll(audits);
+                    return audits;
+                });
+        DeveloperAuditWriter writer = new DeveloperAuditWriter(developerAuditRepository, new ObjectMapper(),
+                transactionManager, meterRegistry, 10, 10, Duration.ofMillis(1), Duration.ofMillis(5), 3);
+
+        writer.offer(record("retried"));
+
+        assertEquals(1, saved.size());
+        assertEquals(2, meterRegistry.counter(AUDIT_FAILED).count());
+        assertEquals(0, meterRegistry.counter(AUDIT_DROPPED).count());
+    }
+
+    @Test
+    void failingWrite_isDroppedAfterMaxRetries() {
+        given(developerAuditRepository.saveAll(anyList())).willThrow(new QueryTimeoutException("timeout"));
+        DeveloperAuditWriter writer = new DeveloperAuditWriter(developerAuditRepository, new ObjectMapper(),
+                transactionManager, meterRegistry, 10, 10, Duration.ofMillis(1), Duration.ofMillis(5), 1);
+
+        writer.offer(record("dropped"));
+
+        verify(developerAuditRepository, times(2)).saveAll(anyList());
+        assertEquals(1, meterRegistry.counter(AUDIT_DROPPED).count());
+    }
+
+    private DeveloperAuditWriter writer(int queueCapacity, int batchSize) {
+        given(developerAuditRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<DeveloperAudit> audits = invocation.getArgument(0);
+            saved.addAll(audits);
+            return audits;
+        });
+        return new DeveloperAuditWriter(developerAuditRepository, new ObjectMapper(), transactionManager,
+                meterRegistry, queueCapacity, batchSize, Duration.ofHours(1), Duration.ofMillis(5), 5);
+    }
+
+    private static DeveloperAuditRecord record(String memberId) {
+        return new DeveloperAuditRecord(DeveloperEventType.CREATED, memberId, DeveloperAuditor.SYSTEM,
+                null, DeveloperDetailDto.builder().memberId(memberId).build(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,110 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// ./gradlew benchmark -Dbenchmark.rows=100000
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DeveloperProjectionBenchmarkTest {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeAll
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        List<Developer> developers = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            developers.add(Developer.builder()
+                    .developerLevel(SENIOR)
+                    .developerSkillType(BACK_END)
+                    .experienceYears(12)
+                    .memberId("member" + i)
+                    .name("name" + i)
+                    .age(32)
+                    .statusCode(StatusCode.EMPLOYED)
+                    .build());
+        }
+        developerRepository.saveAll(developers);
+    }
+
+    @Test
+    void projectionReadPathAllocatesLessThanEntityPath() {
+        Result entity = measure("entity", () -> developerRepository
+                .findDevelopersByStatusCodeEquals(StatusCode.EMPLOYED)
+                .stream().map(DeveloperDto::fromEntity)
+                .collect(Collectors.toList()));
+        Result projection = measure("projection", () -> developerRepository
+                .findDeveloperDtosByStatusCodeEquals(StatusCode.EMPLOYED));
+
+        assertTrue(projection.bytesPerCall < entity.bytesPerCall,
+                "projection path should allocate less than the entity path");
+    }
+
+    private Result measure(String name, Supplier<List<DeveloperDto>> readPath) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals(ROWS, readOnlyTransaction.execute(status -> readPath.get()).size());
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            readOnlyTransaction.execute(status -> readPath.get());
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Result result = new Result(
+                allocated / MEASURED_ITERATIONS, elapsedNanos / MEASURED_ITERATIONS);
+        System.out.printf("[benchmark] %-10s rows=%d  %,d bytes/call  %,d bytes/row  %.2f ms/call%n",
+                name, ROWS, result.bytesPerCall, result.bytesPerCall / ROWS,
+                result.nanosPerCall / 1_000_000.0);
+        return result;
+    }
+
+    private static class Result {
+        private final long bytesPerCall;
+        private final long nanosPerCall;
+
+        private Result(long bytesPerCall, long nanosPerCall) {
+            this.bytesPerCall = bytesPerCall;
+            this.nanosPerCall = nanosPerCall;
+        }
+    }
+}
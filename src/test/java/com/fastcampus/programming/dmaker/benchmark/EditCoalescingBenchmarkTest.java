@@ -0,0 +1,119 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.DmakerApplication;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.EDIT_FLUSHES;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 소수의 developer에 PUT /developer/{memberId} 를 몰아서 보내고, coalescing 을 켰을 때와 껐을 때의
+// developer UPDATE 수와 처리량을 비교한다.
+// ./gradlew benchmark --tests '*EditCoalescingBenchmarkTest' -Dbenchmark.edits=200
+@Tag("benchmark")
+class EditCoalescingBenchmarkTest {
+    private static final int DEVELOPERS = Integer.getInteger("benchmark.developers", 4);
+    private static final int CLIENTS_PER_DEVELOPER = 4;
+    private static final int EDITS_PER_CLIENT = Integer.getInteger("benchmark.edits", 200);
+
+    @Test
+    void compareUpdates() throws Exception {
+        long[] direct = run(false);
+        long[] coalesced = run(true);
+
+        System.out.printf("[benchmark] developer UPDATEs for %,d edits: direct %,d, coalesced %,d%n",
+                direct[0], direct[1], coalesced[1]);
+    }
+
+    // {성공한 edit 수, UPDATE 수}
+    private long[] run(boolean coalescing) throws Exception {
+        AtomicLong edits = new AtomicLong();
+        MeterRegistry meterRegistry;
+        long elapsed;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DmakerApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:edit-coalescing-" + coalescing,
+                        "--dmaker.edit-coalescing.enabled=" + coalescing,
+                        // 처리량을 재는 것이므로 rate limit / load shedding 은 끈다.
+                        "--dmaker.rate-limit.enabled=false",
+                        "--logging.level.root=WARN"
+                )) {
+            DmakerService dmakerService = context.getBean(DmakerService.class);
+            for (int i = 0; i < DEVELOPERS; i++) {
+                dmakerService.createDeveloper(CreateDeveloper.Request.builder()
+                        .developerLevel(SENIOR)
+                        .developerSkillType(BACK_END)
+                        .experienceYears(12)
+                        .memberId("burst" + i)
+                        .name("name")
+                        .age(32)
+                        .build());
+            }
+            meterRegistry = context.getBean(MeterRegistry.class);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            long start = System.nanoTime();
+            burst(port, edits);
+            elapsed = System.nanoTime() - start;
+        }
+
+        // 종료 때 남은 버퍼까지 반영된 뒤의 flush 수
+        long updates = coalescing ? (long) meterRegistry.get(EDIT_FLUSHES).counter().count() : edits.get();
+        System.out.printf("[benchmark] coalescing=%-5s %,d edits  %,.0f edits/s  %,d UPDATEs%n",
+                coalescing, edits.get(), edits.get() / (elapsed / 1_000_000_000.0), updates);
+
+        return new long[]{edits.get(), updates};
+    }
+
+    private void burst(int port, AtomicLong edits) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        ExecutorService executor = Executors.newFixedThreadPool(DEVELOPERS * CLIENTS_PER_DEVELOPER);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < DEVELOPERS * CLIENTS_PER_DEVELOPER; i++) {
+            URI uri = URI.create("http://localhost:" + port + "/developer/burst" + (i % DEVELOPERS));
+            futures.add(executor.submit(() -> {
+                for (int edit = 0; edit < EDITS_PER_CLIENT; edit++) {
+                    // If-Match 없이 보내므로 마지막 edit이 이긴다.
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                            .header("Content-Type", "application/json")
+                            .PUT(HttpRequest.BodyPublishers.ofString("{\"developerLevel\":\"SENIOR\"," +
+                                    "\"developerSkillType\":\"BACK_END\"," +
+                                    "\"experienceYears\":" + (10 + edit % 10) + "}"))
+                            .build();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        edits.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // 직접 반영 모드에서는 같은 row에 대한 동시 수정이 optimistic lock 으로 실패할 수 있다.
+        assertTrue(edits.get() > 0);
+    }
+}
@@ -0,0 +1,129 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.DmakerApplication;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 같은 부하를 platform thread(기본)와 virtual thread 모드에 각각 걸어서 처리량을 비교한다.
+// ./gradlew benchmark --tests '*ExecutionModeLoadTest' -Dbenchmark.concurrency=512
+@Tag("benchmark")
+class ExecutionModeLoadTest {
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 512);
+    private static final Duration DURATION =
+            Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 10));
+    private static final int SEED_DEVELOPERS = 200;
+
+    @Test
+    void compareThroughput() throws Exception {
+        long platform = run(false);
+        long virtual = run(true);
+
+        System.out.printf("[benchmark] platform threads: %,d req, virtual threads: %,d req (%s)%n",
+                platform, virtual, System.getProperty("java.version"));
+    }
+
+    private long run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DmakerApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads,
+                        "--dmaker.execution.virtual-threads=" + virtualThreads,
+                        // 처리량을 재는 것이므로 rate limit / load shedding 은 끈다.
+                        "--dmaker.rate-limit.enabled=false",
+                        "--logging.level.root=WARN"
+                )) {
+            DmakerService dmakerService = context.getBean(DmakerService.class);
+            for (int i = 0; i < SEED_DEVELOPERS; i++) {
+                dmakerService.createDeveloper(CreateDeveloper.Request.builder()
+                        .developerLevel(SENIOR)
+                        .developerSkillType(BACK_END)
+                        .experienceYears(12)
+                        .memberId("load" + i)
+                        .name("name")
+                        .age(32)
+                        .build());
+            }
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            return load(URI.create("http://localhost:" + port + "/developers/page?size=20"),
+                    virtualThreads ? "virtual" : "platform");
+        }
+    }
+
+    private long load(URI uri, String mode) throws Exception {
+        // 실행마다 만드는 pool 이므로 끝나면 닫는다. (non-daemon thread가 다음 실행까지 남지 않게)
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            return load(HttpClient.newBuilder().executor(executor).build(), uri, mode);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long load(HttpClient client, URI uri, String mode) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        long deadline = System.nanoTime() + DURATION.toNanos();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        while (System.nanoTime() < deadline) {
+            inFlight.acquire();
+            long start = System.nanoTime();
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        if (e == null && response.statusCode() == 200) {
+                            completed.incrementAndGet();
+                            latencies.add(System.nanoTime() - start);
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                        inFlight.release();
+                    }));
+            if (futures.size() > 10_000) {
+                futures.removeIf(CompletableFuture::isDone);
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("[benchmark] %-8s concurrency=%d  %,.0f req/s  p50=%.1fms  p99=%.1fms  failed=%d%n",
+                mode, CONCURRENCY, completed.get() / (double) DURATION.getSeconds(),
+                percentile(sorted, 0.50) / 1_000_000.0, percentile(sorted, 0.99) / 1_000_000.0,
+                failed.get());
+        assertEquals(0, failed.get());
+
+        return completed.get();
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.floor(sorted.size() * percentile)));
+    }
+}
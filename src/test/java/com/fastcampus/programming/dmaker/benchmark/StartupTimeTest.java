@@ -0,0 +1,102 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.DmakerApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// 프로세스 시작부터 첫 요청(GET /developers/page)이 200으로 끝날 때까지 걸린 시간 (time-to-first-request)
+// 기본 설정과 fast-start profile을 각각 새 JVM으로 띄워서 비교한다. (class loading/JIT 상태를 공유하지 않도록)
+// ./gradlew benchmark --tests '*StartupTimeTest' -Dbenchmark.startup.runs=5
+@Tag("benchmark")
+class StartupTimeTest {
+    private static final int RUNS = Integer.getInteger("benchmark.startup.runs", 3);
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    void compareTimeToFirstRequest() throws Exception {
+        List<Long> defaults = new ArrayList<>();
+        List<Long> fastStart = new ArrayList<>();
+        // 번갈아 띄워서 디스크 캐시 등의 영향을 양쪽에 고르게 나눈다.
+        for (int i = 0; i < RUNS; i++) {
+            defaults.add(timeToFirstRequest("default"));
+            fastStart.add(timeToFirstRequest("fast-start"));
+        }
+
+        System.out.printf("[benchmark] time-to-first-request  default: %s  fast-start: %s (%s)%n",
+                summary(defaults), summary(fastStart), System.getProperty("java.version"));
+    }
+
+    private long timeToFirstRequest(String profile) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                DmakerApplication.class.getName(),
+                "--server.port=" + port,
+                "--logging.level.root=WARN"));
+        if (!profile.equals("default")) {
+            command.add("--spring.profiles.active=" + profile);
+        }
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/developers/page?size=20")).GET().build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    fail(profile + " exited with " + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                        System.out.printf("[benchmark] %-10s %,dms%n", profile, elapsedMillis);
+                        return elapsedMillis;
+                    }
+                } catch (ConnectException e) {
+                    // 아직 port를 열지 않았다.
+                }
+                Thread.sleep(10);
+            }
+            return fail(profile + " did not answer within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String summary(List<Long> millis) {
+        List<Long> sorted = new ArrayList<>(millis);
+        Collections.sort(sorted);
+        return String.format("min=%,dms median=%,dms", sorted.get(0), sorted.get(sorted.size() / 2));
+    }
+}
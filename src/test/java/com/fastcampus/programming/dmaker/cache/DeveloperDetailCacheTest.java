@@ -0,0 +1,64 @@
+package com.fastcampus.programming.dmaker.cache;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeveloperDetailCacheTest {
+    private final Cache<String, DeveloperDetailDto> cache = Caffeine.newBuilder().build();
+    private final DeveloperDetailCache developerDetailCache = new DeveloperDetailCache(cache);
+
+    private DeveloperDetailDto detail(StatusCode statusCode) {
+        return DeveloperDetailDto.builder()
+                .memberId("memberId")
+                .statusCode(statusCode)
+                .build();
+    }
+
+    @Test
+    void get_loadsOnceAndServesFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        developerDetailCache.get("memberId", () -> {
+            loads.incrementAndGet();
+            return detail(StatusCode.EMPLOYED);
+        });
+        DeveloperDetailDto cached = developerDetailCache.get("memberId", () -> {
+            loads.incrementAndGet();
+            return detail(StatusCode.EMPLOYED);
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals(StatusCode.EMPLOYED, cached.getStatusCode());
+    }
+
+    @Test
+    void invalidate_removesEntry() {
+        developerDetailCache.get("memberId", () -> detail(StatusCode.EMPLOYED));
+
+        developerDetailCache.invalidate("memberId");
+
+        assertNull(cache.getIfPresent("memberId"));
+    }
+
+    @Test
+    void get_doesNotKeepValueLoadedConcurrentlyWithInvalidation() {
+        // 로딩 중에 삭제(RETIRED)가 커밋되어 무효화된 경우
+        DeveloperDetailDto loaded = developerDetailCache.get("memberId", () -> {
+            DeveloperDetailDto stale = detail(StatusCode.EMPLOYED);
+            developerDetailCache.invalidate("memberId");
+            return stale;
+        });
+
+        assertEquals(StatusCode.EMPLOYED, loaded.getStatusCode());
+        assertNull(cache.getIfPresent("memberId"));
+        assertEquals(StatusCode.RETIRED,
+                developerDetailCache.get("memberId", () -> detail(StatusCode.RETIRED)).getStatusCode());
+    }
+}
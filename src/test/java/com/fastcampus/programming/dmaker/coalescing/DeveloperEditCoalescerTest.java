@@ -0,0 +1,290 @@
+package com.fastcampus.programming.dmaker.coalescing;
+
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperAuditDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.ACTOR_HEADER;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.EDITS_DROPPED;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.EDIT_CONFLICTS;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.EDIT_FLUSHES;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.EDIT_FLUSH_FAILED;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.VERSION_NOT_MATCHED;
+import static com.fastcampus.programming.dmaker.code.StatusCode.RETIRED;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.FRONT_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// window가 길어서 max-edits(3) 또는 stop() 때만 반영된다.
+@SpringBootTest(properties = {
+        "dmaker.edit-coalescing.enabled=true",
+        "dmaker.edit-coalescing.window=PT1H",
+        "dmaker.edit-coalescing.max-edits=3"
+})
+class DeveloperEditCoalescerTest {
+    @Autowired
+    private DeveloperEditCoalescer developerEditCoalescer;
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void edits_areBufferedAndFlushedAsOneUpdate() throws InterruptedException {
+        long base = createDeveloper("coalesced1").getVersion();
+        double flushesBefore = meterRegistry.get(EDIT_FLUSHES).counter().count();
+
+        developerEditCoalescer.edit("coalesced1", request(13), null);
+        DeveloperDetailDto edited = developerEditCoalescer.edit("coalesced1", request(14), null);
+
+        // 응답과 조회는 버퍼의 값, DB는 그대로
+        assertEquals(base + 2, edited.getVersion());
+        DeveloperDetailDto developerDetail = dmakerService.getDeveloperDetail("coalesced1");
+        assertEquals(14, developerDetail.getExperienceYears());
+        assertEquals(base + 2, developerDetail.getVersion());
+        assertEquals(base, row("coalesced1").get("version"));
+        assertEquals(12, row("coalesced1").get("experience_years"));
+
+        // max-edits 째 edit 이면 바로 flush
+        developerEditCoalescer.edit("coalesced1", request(15), null);
+        awaitVersion("coalesced1", base + 3);
+
+        assertEquals(15, row("coalesced1").get("experience_years"));
+        assertEquals(1, meterRegistry.get(EDIT_FLUSHES).counter().count() - flushesBefore);
+        assertEquals(base + 3, dmakerService.getDeveloperDetail("coalesced1").getVersion());
+    }
+
+    // If-Match 가 있으면 버퍼를 먼저 반영하고 DB의 version과 비교해 바로 반영한다.
+    @Test
+    void ifMatchEdit_flushesBufferAndAppliesSynchronously() {
+        long base = createDeveloper("coalesced5").getVersion();
+        developerEditCoalescer.edit("coalesced5", request(13), null);
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> developerEditCoalescer.edit("coalesced5", request(14), Set.of(base)));
+        assertEquals(VERSION_NOT_MATCHED, exception.getDMakerErrorCode());
+        assertEquals(base + 1, row("coalesced5").get("version"));
+        assertEquals(13, row("coalesced5").get("experience_years"));
+
+        DeveloperDetailDto edited = developerEditCoalescer.edit("coalesced5", request(14), Set.of(base + 1));
+        assertEquals(base + 2, edited.getVersion());
+        assertEquals(base + 2, row("coalesced5").get("version"));
+        assertEquals(14, row("coalesced5").get("experience_years"));
+        assertNull(developerEditCoalescer.pending("coalesced5"));
+    }
+
+    @Test
+    void stop_flushesPendingEdits() {
+        long base = createDeveloper("coalesced2").getVersion();
+        developerEditCoalescer.edit("coalesced2", EditDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(FRONT_END)
+                .experienceYears(13)
+                .build(), null);
+
+        try {
+            developerEditCoalescer.stop();
+
+            assertEquals(base + 1, row("coalesced2").get("version"));
+            assertEquals(FRONT_END.name(), row("coalesced2").get("developer_skill_type"));
+
+            // stop() 이후에는 바로 반영한다.
+            developerEditCoalescer.edit("coalesced2", request(14), Set.of(base + 1));
+            assertEquals(base + 2, row("coalesced2").get("version"));
+        } finally {
+            developerEditCoalescer.start();
+        }
+    }
+
+    // 버퍼에 모으는 사이 다른 경로로 바뀌면 덮어쓰지 않고 버린다. 버퍼가 내준 ETag들은 더 이상 맞지 않는다.
+    @Test
+    void flushAfterConcurrentWrite_dropsBufferedEdits() {
+        long base = createDeveloper("coalesced3").getVersion();
+        double conflictsBefore = meterRegistry.get(EDIT_CONFLICTS).counter().count();
+        developerEditCoalescer.edit("coalesced3", request(13), null);
+        developerEditCoalescer.edit("coalesced3", request(14), null);
+        // 버퍼를 거치지 않는 수정 (DB version base + 1)
+        dmakerService.editDeveloper("coalesced3", request(20), Set.of(base));
+
+        try {
+            developerEditCoalescer.stop();
+
+            assertEquals(base + 1, row("coalesced3").get("version"));
+            assertEquals(20, row("coalesced3").get("experience_years"));
+            assertEquals(1, meterRegistry.get(EDIT_CONFLICTS).counter().count() - conflictsBefore);
+            assertNull(developerEditCoalescer.pending("coalesced3"));
+            DMakerException exception = assertThrows(DMakerException.class,
+                    () -> dmakerService.editDeveloper("coalesced3", request(15), Set.of(base + 2)));
+            assertEquals(VERSION_NOT_MATCHED, exception.getDMakerErrorCode());
+        } finally {
+            developerEditCoalescer.start();
+        }
+    }
+
+    // 삭제가 커밋되면 버퍼의 edit은 버린다. (RETIRED row에 덮어쓰지 않는다.)
+    @Test
+    void delete_discardsBufferedEdits() {
+        long base = createDeveloper("coalesced6").getVersion();
+        developerEditCoalescer.edit("coalesced6", request(13), null);
+
+        dmakerService.deleteDeveloper("coalesced6");
+
+        assertNull(developerEditCoalescer.pending("coalesced6"));
+        assertEquals(RETIRED, dmakerService.getDeveloperDetail("coalesced6").getStatusCode());
+        try {
+            developerEditCoalescer.stop();
+        } finally {
+            developerEditCoalescer.start();
+        }
+        assertEquals(12, row("coalesced6").get("experience_years"));
+        assertTrue((Long) row("coalesced6").get("version") > base);
+    }
+
+    // flush 스레드에서 반영해도 변경 이력은 edit 마다 요청 때의 actor로 남는다.
+    @Test
+    void flush_recordsEachEditWithItsActor() throws InterruptedException {
+        long base = createDeveloper("coalesced4").getVersion();
+        try {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(requestFrom("alice")));
+            developerEditCoalescer.edit("coalesced4", request(13), null);
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(requestFrom("bob")));
+            developerEditCoalescer.edit("coalesced4", request(14), null);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        try {
+            developerEditCoalescer.stop();
+        } finally {
+            developerEditCoalescer.start();
+        }
+        assertEquals(base + 2, row("coalesced4").get("version"));
+
+        List<DeveloperAuditDto> edited = awaitEditHistory("coalesced4", 2);
+        assertEquals(List.of("alice", "bob"),
+                edited.stream().map(DeveloperAuditDto::getActor).collect(Collectors.toList()));
+        assertTrue(edited.get(0).getAfter().contains("\"experienceYears\":13"));
+        assertTrue(edited.get(1).getBefore().contains("\"experienceYears\":13"));
+        assertTrue(edited.get(1).getAfter().contains("\"experienceYears\":14"));
+    }
+
+    // flush가 계속 실패하면 max-retries 번 다시 시도한 뒤 버린다.
+    @Test
+    void failingFlush_isDroppedAfterMaxRetries() {
+        DmakerService failingService = mock(DmakerService.class);
+        given(failingService.getDeveloperDetail("failing")).willReturn(DeveloperDetailDto.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId("failing")
+                .version(0L)
+                .build());
+        willThrow(new QueryTimeoutException("timeout"))
+                .given(failingService).applyCoalescedEdit(eq("failing"), any(), any(), anyList());
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DeveloperEditCoalescer coalescer = new DeveloperEditCoalescer(
+                new StaticListableBeanFactory(Map.of("dmakerService", failingService))
+                        .getBeanProvider(DmakerService.class),
+                registry, true, Duration.ofHours(1), 3, 1);
+        coalescer.start();
+
+        coalescer.edit("failing", request(13), null);
+        // stop()은 남은 edit을 두 번 반영해 본다. (backoff 무시)
+        coalescer.stop();
+
+        verify(failingService, times(2)).applyCoalescedEdit(eq("failing"), any(), any(), anyList());
+        assertEquals(2, registry.get(EDIT_FLUSH_FAILED).counter().count());
+        assertEquals(1, registry.get(EDITS_DROPPED).counter().count());
+        assertNull(coalescer.pending("failing"));
+    }
+
+    // 변경 이력은 writer 스레드가 비동기로 쓴다.
+    private List<DeveloperAuditDto> awaitEditHistory(String memberId, int expected) throws InterruptedException {
+        List<DeveloperAuditDto> edited = List.of();
+        for (int i = 0; i < 100 && edited.size() < expected; i++) {
+            Thread.sleep(50);
+            edited = dmakerService.getDeveloperHistory(memberId, null, 10).getHistory().stream()
+                    .filter(audit -> audit.getEventType() == DeveloperEventType.EDITED)
+                    .collect(Collectors.toList());
+        }
+        assertEquals(expected, edited.size());
+        return edited;
+    }
+
+    private static MockHttpServletRequest requestFrom(String actor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ACTOR_HEADER, actor);
+        return request;
+    }
+
+    private void awaitVersion(String memberId, long version) throws InterruptedException {
+        for (int i = 0; i < 100 && !Long.valueOf(version).equals(row(memberId).get("version")); i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(version, row(memberId).get("version"));
+    }
+
+    private Map<String, Object> row(String memberId) {
+        return jdbcTemplate.queryForMap(
+                "select version, experience_years, developer_skill_type from developer where member_id = ?",
+                memberId);
+    }
+
+    private static EditDeveloper.Request request(int experienceYears) {
+        return EditDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(experienceYears)
+                .build();
+    }
+
+    private DeveloperDetailDto createDeveloper(String memberId) {
+        dmakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("coalesced_name")
+                .age(32)
+                .build());
+        return dmakerService.getDeveloperDetail(memberId);
+    }
+}
@@ -0,0 +1,53 @@
+package com.fastcampus.programming.dmaker.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class MetricsConfigTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusScrape() throws Exception {
+        mockMvc.perform(post("/create-developer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"developerLevel\":\"SENIOR\",\"developerSkillType\":\"BACK_END\","
+                                + "\"experienceYears\":12,\"memberId\":\"metrics1\",\"name\":\"name\",\"age\":32}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/developer/metrics1")).andExpect(status().isOk());
+        mockMvc.perform(get("/developer/unknown")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                // service
+                .containsPattern("dmaker_service_seconds\\{.*method=\"createDeveloper\".*quantile=\"0.99\"")
+                .containsPattern("dmaker_service_seconds_count\\{.*exception=\"none\",method=\"getDeveloperDetail\",} 1.0")
+                .containsPattern("dmaker_service_seconds_count\\{.*exception=\"DMakerException\",method=\"getDeveloperDetail\",} 1.0")
+                // repository
+                .containsPattern("spring_data_repository_invocations_seconds\\{.*method=\"loadByMemberId\".*quantile=\"0.5\"")
+                // error code
+                .containsPattern("dmaker_errors_total\\{errorCode=\"NO_DEVELOPER\",} 1.0")
+                // hikari
+                .containsPattern("hikaricp_connections_acquire_seconds\\{.*quantile=\"0.99\"")
+                // 요청 당 SQL 문 개수 : 등록은 developer + developer_outbox,
+                // 없는 개발자 상세 조회는 developer, archived_developer 를 한 번씩 select
+                .containsPattern("dmaker_request_statements_max\\{method=\"POST\",type=\"insert\",uri=\"/create-developer\",} 2.0")
+                .containsPattern("dmaker_request_statements_max\\{method=\"GET\",type=\"select\",uri=\"/developer/\\{memberId}\",} 2.0");
+    }
+}
@@ -0,0 +1,69 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.archive.DeveloperArchiver;
+import com.fastcampus.programming.dmaker.idempotency.IdempotencyStore;
+import com.fastcampus.programming.dmaker.outbox.DeveloperOutboxRelay;
+import com.fastcampus.programming.dmaker.stats.DeveloperStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.scheduling.support.ScheduledMethodRunnable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// fast-start profile (lazy init, deferred JPA bootstrap)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("fast-start")
+class StartupConfigTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private ScheduledTaskHolder scheduledTaskHolder;
+
+    @Test
+    void fastStart_createsScheduledBeansEagerlyAndServesRequests() throws Exception {
+        for (Class<?> type : List.of(DeveloperOutboxRelay.class, IdempotencyStore.class, DeveloperArchiver.class)) {
+            assertThat(beanFactory.getBeanNamesForType(type)).isNotEmpty()
+                    .allMatch(beanFactory::containsSingleton);
+            assertThat(scheduledTargets()).anyMatch(type::isInstance);
+        }
+
+        mockMvc.perform(post("/create-developer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"developerLevel\":\"SENIOR\",\"developerSkillType\":\"BACK_END\","
+                                + "\"experienceYears\":12,\"memberId\":\"fast1\",\"name\":\"name\",\"age\":32}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/developer/fast1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberId").value("fast1"));
+
+        // lazy인 DeveloperStats 는 처음 쓰인 뒤부터 reconcile 한다.
+        assertThat(scheduledTargets()).anyMatch(DeveloperStats.class::isInstance);
+    }
+
+    private List<Object> scheduledTargets() {
+        return scheduledTaskHolder.getScheduledTasks().stream()
+                .map(task -> task.getTask().getRunnable())
+                .filter(ScheduledMethodRunnable.class::isInstance)
+                .map(runnable -> ((ScheduledMethodRunnable) runnable).getTarget())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,125 @@
+package com.fastcampus.programming.dmaker.controller;
+
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ETag(version) 기반 조건부 GET/PUT
+@SpringBootTest
+@AutoConfigureMockMvc
+class DMakerControllerConditionalRequestTest {
+    private static final String EDIT_REQUEST =
+            "{\"developerLevel\":\"SENIOR\",\"developerSkillType\":\"FRONT_END\",\"experienceYears\":%d}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Test
+    void conditionalGetAndPut() throws Exception {
+        createDeveloper("etag1");
+
+        mockMvc.perform(get("/developer/etag1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.version").doesNotExist());
+        // 변경 없음 -> body 없이 304
+        mockMvc.perform(get("/developer/etag1").header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/developer/etag1")
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format(EDIT_REQUEST, 13)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+        // 이미 변경된 version으로 수정 -> 412
+        mockMvc.perform(put("/developer/etag1")
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format(EDIT_REQUEST, 14)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errorCode", CoreMatchers.is("VERSION_NOT_MATCHED")));
+
+        mockMvc.perform(get("/developer/etag1").header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.experienceYears", CoreMatchers.is(13)));
+        // If-Match 없이 수정하면 version 확인 없이 수정된다.
+        mockMvc.perform(put("/developer/etag1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format(EDIT_REQUEST, 15)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+    }
+
+    // If-Match는 strong 비교: weak ETag는 맞지 않고, 여러 개면 그중 하나만 맞으면 된다.
+    @Test
+    void ifMatch_usesStrongComparisonOverList() throws Exception {
+        createDeveloper("etag3");
+
+        mockMvc.perform(put("/developer/etag3")
+                        .header(HttpHeaders.IF_MATCH, "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format(EDIT_REQUEST, 13)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/developer/etag3")
+                        .header(HttpHeaders.IF_MATCH, "\"7\", W/\"1\", \"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format(EDIT_REQUEST, 13)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    void concurrentUpdate_laterCommitFails() {
+        createDeveloper("etag2");
+        Developer first = developerRepository.findByMemberId("etag2").orElseThrow();
+        Developer second = developerRepository.findByMemberId("etag2").orElseThrow();
+
+        first.setExperienceYears(13);
+        developerRepository.save(first);
+        second.setExperienceYears(14);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> developerRepository.save(second));
+    }
+
+    private void createDeveloper(String memberId) {
+        dmakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(32)
+                .build());
+    }
+}
@@ -0,0 +1,89 @@
+package com.fastcampus.programming.dmaker.controller;
+
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.FULL_STACK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Accept 헤더에 따른 JSON / CBOR 응답
+@SpringBootTest
+@AutoConfigureMockMvc
+class DMakerControllerContentNegotiationTest {
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    @Test
+    void cborResponse_isSmallerAndEncodesEnumsAsOrdinals() throws Exception {
+        createDeveloper("cbor1");
+        createDeveloper("cbor2");
+
+        byte[] json = mockMvc.perform(get("/developers"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cbor = mockMvc.perform(get("/developers").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertTrue(cbor.length < json.length, "cbor " + cbor.length + " bytes, json " + json.length + " bytes");
+        JsonNode first = cborMapper.readTree(cbor).get(0);
+        assertTrue(first.get("developerLevel").isInt());
+        assertTrue(first.get("developerSkillType").isInt());
+        // 받는 쪽은 ordinal을 그대로 enum으로 읽는다.
+        DeveloperDto[] developers = cborMapper.readValue(cbor, DeveloperDto[].class);
+        assertTrue(Arrays.stream(developers).anyMatch(developer -> developer.getMemberId().equals("cbor1")
+                && developer.getDeveloperLevel() == SENIOR
+                && developer.getDeveloperSkillType() == FULL_STACK));
+    }
+
+    @Test
+    void developerDetail_inCbor() throws Exception {
+        createDeveloper("cbor3");
+
+        byte[] cbor = mockMvc.perform(get("/developer/cbor3").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        DeveloperDetailDto developerDetail = cborMapper.readValue(cbor, DeveloperDetailDto.class);
+        assertEquals("cbor3", developerDetail.getMemberId());
+        assertEquals(SENIOR, developerDetail.getDeveloperLevel());
+        assertEquals(12, developerDetail.getExperienceYears());
+    }
+
+    private void createDeveloper(String memberId) {
+        dmakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(FULL_STACK)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(32)
+                .build());
+    }
+}
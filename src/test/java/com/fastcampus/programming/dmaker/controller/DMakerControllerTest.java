@@ -1,28 +1,47 @@
 package com.fastcampus.programming.dmaker.controller;
 
+import com.fastcampus.programming.dmaker.coalescing.DeveloperEditCoalescer;
 import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.idempotency.IdempotencyStore;
+import com.fastcampus.programming.dmaker.service.DeveloperBulkService;
+import com.fastcampus.programming.dmaker.service.DeveloperImportValidator;
 import com.fastcampus.programming.dmaker.service.DmakerService;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@WebMvcTest(DMakerController.class) // 컨트롤러 테스트
+@WebMvcTest(controllers = DMakerController.class,  // 컨트롤러 테스트
+        properties = "dmaker.rate-limit.enabled=false")
+@Import(SimpleMeterRegistry.class)  // DMakerExceptionHandler 에러 카운터용
 class DMakerControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -30,6 +49,18 @@ class DMakerControllerTest {
     @MockBean
     private DmakerService dmakerService;
 
+    @MockBean
+    private DeveloperBulkService developerBulkService;
+
+    @MockBean
+    private IdempotencyStore idempotencyStore;
+
+    @MockBean
+    private DeveloperImportValidator developerImportValidator;
+
+    @MockBean
+    private DeveloperEditCoalescer developerEditCoalescer;
+
     protected MediaType contentType =
             new MediaType(MediaType.APPLICATION_JSON.getType(),
                         MediaType.APPLICATION_JSON.getSubtype(),
@@ -63,4 +94,74 @@ class DMakerControllerTest {
                         jsonPath("$.[1].developerLevel", CoreMatchers.is(DeveloperLevel.SENIOR.name())))
         ;
     }
-}
\ No newline at end of file
+
+    @Test
+    void getDevelopersPage() throws Exception {
+        DeveloperDto developerDto = DeveloperDto.builder()
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .memberId("memberId1")
+                .build();
+        String nextCursor = DeveloperPageDto.encodeCursor(1L);
+        given(dmakerService.getEmployedDevelopers(eq(null), eq(1)))
+                .willReturn(DeveloperPageDto.builder()
+                        .developers(Collections.singletonList(developerDto))
+                        .nextCursor(nextCursor)
+                        .build());
+
+        mockMvc.perform(get("/developers/page").param("size", "1").contentType(contentType))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(
+                        jsonPath("$.developers[0].memberId", CoreMatchers.is("memberId1")))
+                .andExpect(
+                        jsonPath("$.nextCursor", CoreMatchers.is(nextCursor)))
+        ;
+    }
+
+    @Test
+    void searchDevelopers() throws Exception {
+        DeveloperDto developerDto = DeveloperDto.builder()
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .developerLevel(DeveloperLevel.SENIOR)
+                .memberId("memberId1")
+                .build();
+        given(dmakerService.searchDevelopers(argThat(request ->
+                request.getDeveloperLevel() == DeveloperLevel.SENIOR
+                        && request.getMinExperienceYears() == 10
+                        && "kim".equals(request.getNamePrefix())
+                        && request.getSize() == 5)))
+                .willReturn(DeveloperPageDto.builder()
+                        .developers(Collections.singletonList(developerDto))
+                        .build());
+
+        mockMvc.perform(get("/developers/search")
+                        .param("developerLevel", "SENIOR")
+                        .param("minExperienceYears", "10")
+                        .param("namePrefix", "kim")
+                        .param("size", "5")
+                        .contentType(contentType))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(
+                        jsonPath("$.developers[0].memberId", CoreMatchers.is("memberId1")))
+        ;
+    }
+
+    @Test
+    void editDeveloper_concurrentModification() throws Exception {
+        given(dmakerService.editDeveloper(eq("memberId1"), any(), eq(Set.of(3L))))
+                .willThrow(new ObjectOptimisticLockingFailureException(Developer.class, 1L));
+
+        mockMvc.perform(put("/developer/memberId1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(contentType)
+                        .content("{\"developerLevel\":\"SENIOR\",\"developerSkillType\":\"BACK_END\","
+                                + "\"experienceYears\":12}"))
+                .andExpect(status().isConflict())
+                .andDo(print())
+                .andExpect(
+                        jsonPath("$.errorCode", CoreMatchers.is(DMakerErrorCode.CONCURRENT_MODIFICATION.name())))
+        ;
+    }
+}
@@ -0,0 +1,140 @@
+package com.fastcampus.programming.dmaker.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DATASOURCE_ROUTED;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.REPLICA_FALLBACK;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.REPLICA_LAG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+// replica 마다 H2 in-memory DB 하나. replica_status.lag_seconds 로 복제 지연을 흉내 낸다.
+class ReplicaRouterTest {
+    private static final String LAG_QUERY = "select lag_seconds from replica_status";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HikariDataSource primary = h2("primary");
+    private final HikariDataSource replica0 = replica("replica-0");
+    private final HikariDataSource replica1 = replica("replica-1");
+    private final List<ReplicaRouter> routers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routers.forEach(ReplicaRouter::close);
+    }
+
+    @Test
+    void writes_goToPrimary() {
+        ReplicaRouter router = router(ReplicaRoutingProperties.LoadBalancing.ROUND_ROBIN);
+
+        assertSame(primary, router.route());
+        assertEquals(1, meterRegistry.get(DATASOURCE_ROUTED).tag("pool", ReplicaRouter.PRIMARY).counter().count());
+    }
+
+    @Test
+    void readOnly_roundRobinAcrossReplicas() {
+        ReplicaRouter router = router(ReplicaRoutingProperties.LoadBalancing.ROUND_ROBIN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(replica0, router.route());
+        assertSame(replica1, router.route());
+        assertSame(replica0, router.route());
+        assertEquals(2, meterRegistry.get(DATASOURCE_ROUTED).tag("pool", "replica-0").counter().count());
+    }
+
+    @Test
+    void readOnly_leastBusyAvoidsReplicaHoldingConnections() throws Exception {
+        ReplicaRouter router = router(ReplicaRoutingProperties.LoadBalancing.LEAST_BUSY);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (Connection ignored = replica0.getConnection()) {
+            for (int i = 0; i < 4; i++) {
+                assertSame(replica1, router.route());
+            }
+        }
+    }
+
+    @Test
+    void laggingReplica_isSkippedUntilItCatchesUp() {
+        ReplicaRouter router = router(ReplicaRoutingProperties.LoadBalancing.ROUND_ROBIN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        setLagSeconds(replica0, 30);
+        router.checkReplicas();
+        assertFalse(router.isAvailable("replica-0"));
+        assertEquals(30, meterRegistry.get(REPLICA_LAG).tag("pool", "replica-0").gauge().value());
+        for (int i = 0; i < 4; i++) {
+            assertSame(replica1, router.route());
+        }
+
+        setLagSeconds(replica0, 0);
+        router.checkReplicas();
+        assertSame(replica0, router.route());
+    }
+
+    @Test
+    void noReplicaAvailable_fallsBackToPrimary() {
+        ReplicaRouter router = router(ReplicaRoutingProperties.LoadBalancing.LEAST_BUSY);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        setLagSeconds(replica0, 30);
+        replica1.close();
+        router.checkReplicas();
+
+        assertSame(primary, router.route());
+        assertEquals(1, meterRegistry.get(REPLICA_FALLBACK).counter().count());
+    }
+
+    private ReplicaRouter router(ReplicaRoutingProperties.LoadBalancing loadBalancing) {
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setLoadBalancing(loadBalancing);
+        properties.setLagQuery(LAG_QUERY);
+        properties.setMaxLag(Duration.ofSeconds(5));
+
+        ReplicaRouter router = new ReplicaRouter(
+                new ReplicaRouter.Pool(ReplicaRouter.PRIMARY, primary),
+                Arrays.asList(new ReplicaRouter.Pool("replica-0", replica0), new ReplicaRouter.Pool("replica-1", replica1)),
+                properties, meterRegistry);
+        router.checkReplicas();
+        routers.add(router);
+
+        return router;
+    }
+
+    private static HikariDataSource replica(String name) {
+        HikariDataSource dataSource = h2(name);
+        new JdbcTemplate(dataSource).execute("create table replica_status (lag_seconds double)");
+        new JdbcTemplate(dataSource).update("insert into replica_status values (0)");
+
+        return dataSource;
+    }
+
+    private static void setLagSeconds(HikariDataSource replica, double lagSeconds) {
+        new JdbcTemplate(replica).update("update replica_status set lag_seconds = ?", lagSeconds);
+    }
+
+    private static HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID());
+        dataSource.setUsername("sa");
+        dataSource.setConnectionTimeout(250);
+
+        return dataSource;
+    }
+}
@@ -0,0 +1,161 @@
+package com.fastcampus.programming.dmaker.datasource;
+
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.SearchDevelopers;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DATASOURCE_ROUTED;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// primary, replica 각각 H2 in-memory DB. 복제는 없으므로 한쪽에만 넣은 row로 어디서 읽었는지 확인한다.
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingDataSourceTest.PRIMARY_URL,
+        "dmaker.datasource.replica.enabled=true",
+        "dmaker.datasource.replica.lag-query=select lag_seconds from replica_status",
+        // 테스트에서 checkReplicas()를 직접 부른다.
+        "dmaker.datasource.replica.lag-check-interval=PT1H",
+        "dmaker.datasource.replica.pools[0].name=replica-0",
+        "dmaker.datasource.replica.pools[0].url=" + ReplicaRoutingDataSourceTest.REPLICA_URL,
+        "dmaker.datasource.replica.pools[0].username=sa"
+})
+class ReplicaRoutingDataSourceTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate primaryJdbcTemplate =
+            new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+    private static final JdbcTemplate replicaJdbcTemplate =
+            new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    @Autowired
+    private ReplicaRouter replicaRouter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // 실제 replica는 스키마도 복제로 받는다.
+    @BeforeAll
+    static void setUpReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+        replicaJdbcTemplate.execute("create table replica_status (lag_seconds double)");
+        replicaJdbcTemplate.update("insert into replica_status values (0)");
+        replicaJdbcTemplate.update("insert into developer (id, member_id, name, status_code, developer_level, " +
+                "developer_skill_type, experience_years, age) values (1000000, 'replicaOnly', 'routing_replica', " +
+                "'EMPLOYED', 'SENIOR', 'BACK_END', 12, 32)");
+    }
+
+    @Test
+    void readOnlyTransaction_readsFromReplica() {
+        replicaRouter.checkReplicas();
+        double routed = replicaRoutedCount();
+
+        assertTrue(searchRouting().contains("replicaOnly"));
+        assertTrue(replicaRoutedCount() > routed);
+    }
+
+    @Test
+    void writes_goToPrimary() {
+        replicaRouter.checkReplicas();
+        createDeveloper("routingWrite");
+
+        assertEquals(1, countByMemberId(primaryJdbcTemplate, "routingWrite"));
+        assertEquals(0, countByMemberId(replicaJdbcTemplate, "routingWrite"));
+        assertFalse(searchRouting().contains("routingWrite"));
+    }
+
+    @Test
+    void laggingReplica_readsFallBackToPrimary() {
+        createDeveloper("routingLag");
+        replicaJdbcTemplate.update("update replica_status set lag_seconds = 60");
+        try {
+            replicaRouter.checkReplicas();
+
+            List<String> memberIds = searchRouting();
+            assertTrue(memberIds.contains("routingLag"));
+            assertFalse(memberIds.contains("replicaOnly"));
+        } finally {
+            replicaJdbcTemplate.update("update replica_status set lag_seconds = 0");
+            replicaRouter.checkReplicas();
+        }
+    }
+
+    // replica가 쓸 수 있는 상태여도 캐시를 채우는 조회는 primary에서 읽는다.
+    // (replica에는 복제가 늦은 이전 row를 넣어 둔다.)
+    @Test
+    void cacheFillingReads_goToPrimary() {
+        createDeveloper("routingStale");
+        replicaJdbcTemplate.update("insert into developer (id, member_id, name, status_code, developer_level, " +
+                "developer_skill_type, experience_years, age) values (1000001, 'routingStale', 'routing_old', " +
+                "'EMPLOYED', 'JUNIOR', 'BACK_END', 1, 32)");
+        replicaRouter.checkReplicas();
+        assertTrue(replicaRouter.isAvailable("replica-0"));
+        // second-level / query cache도 비운 뒤 (무효화 직후와 같은 상태)
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        DeveloperDetailDto developerDetail = dmakerService.getDeveloperDetail("routingStale");
+        assertEquals("routing_stale", developerDetail.getName());
+        assertEquals(12, developerDetail.getExperienceYears());
+        assertEquals(primaryJdbcTemplate.queryForObject(
+                "select version from developer where member_id = 'routingStale'", Long.class),
+                developerDetail.getVersion());
+
+        List<String> memberIds = dmakerService.getAllEmployedDevelopers().stream()
+                .map(DeveloperDto::getMemberId)
+                .collect(Collectors.toList());
+        assertTrue(memberIds.contains("routingStale"));
+        assertFalse(memberIds.contains("replicaOnly"));
+    }
+
+    // 검색은 cache를 거치지 않는다.
+    private List<String> searchRouting() {
+        return dmakerService.searchDevelopers(SearchDevelopers.Request.builder().namePrefix("routing").build())
+                .getDevelopers().stream()
+                .map(DeveloperDto::getMemberId)
+                .collect(Collectors.toList());
+    }
+
+    private double replicaRoutedCount() {
+        return meterRegistry.get(DATASOURCE_ROUTED).tag("pool", "replica-0").counter().count();
+    }
+
+    private static int countByMemberId(JdbcTemplate jdbcTemplate, String memberId) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from developer where member_id = ?", Integer.class, memberId);
+    }
+
+    private void createDeveloper(String memberId) {
+        dmakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("routing_" + memberId.substring("routing".length()).toLowerCase())
+                .age(32)
+                .build());
+    }
+}
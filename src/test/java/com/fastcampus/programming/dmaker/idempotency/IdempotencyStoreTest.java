@@ -0,0 +1,123 @@
+package com.fastcampus.programming.dmaker.idempotency;
+
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.repository.IdempotencyKeyRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.IDEMPOTENCY_KEY_HEADER;
+import static com.fastcampus.programming.dmaker.metrics.QueryCountAssertions.assertStatementCountAtMost;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "dmaker.idempotency.jdbc.enabled=true")
+@AutoConfigureMockMvc
+class IdempotencyStoreTest {
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final String CREATE_REQUEST =
+            "{\"developerLevel\":\"SENIOR\",\"developerSkillType\":\"BACK_END\","
+                    + "\"experienceYears\":%d,\"memberId\":\"%s\",\"name\":\"name\",\"age\":32}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DeveloperShards developerShards;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void retry_returnsFirstResponseWithoutQueries() throws Exception {
+        String key = "key" + SEQUENCE.incrementAndGet();
+        String memberId = "idempotent" + SEQUENCE.incrementAndGet();
+
+        create(key, memberId, 12).andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberId").value(memberId));
+
+        // 메모리 hit: DB를 보지 않는다. (중복 memberId 오류도 나지 않는다.)
+        assertStatementCountAtMost(0, () -> create(key, memberId, 12)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberId").value(memberId))
+                .andExpect(jsonPath("$.errorCode").doesNotExist()));
+    }
+
+    @Test
+    void sameKeyWithDifferentRequest_isRejected() throws Exception {
+        String key = "key" + SEQUENCE.incrementAndGet();
+        String memberId = "idempotent" + SEQUENCE.incrementAndGet();
+
+        create(key, memberId, 12).andExpect(status().isOk());
+        create(key, memberId, 13)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    void withoutKey_createsAsBefore() throws Exception {
+        String memberId = "idempotent" + SEQUENCE.incrementAndGet();
+
+        mockMvc.perform(post("/create-developer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format(CREATE_REQUEST, 12, memberId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberId").value(memberId));
+    }
+
+    // 재시작 등으로 메모리가 비어도 idempotency_key 테이블에서 찾는다.
+    @Test
+    void jdbcTier_replaysAfterMemoryIsLost() throws Exception {
+        String key = "key" + SEQUENCE.incrementAndGet();
+        String memberId = "idempotent" + SEQUENCE.incrementAndGet();
+        create(key, memberId, 12).andExpect(status().isOk());
+
+        IdempotencyStore restarted = new IdempotencyStore(Caffeine.newBuilder().build(), idempotencyKeyRepository,
+                new TransactionTemplate(transactionManager), developerShards, objectMapper, Duration.ofHours(1));
+        CreateDeveloper.Request request = CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(32)
+                .build();
+
+        CreateDeveloper.Response replayed = restarted.execute(key, memberId, request,
+                CreateDeveloper.Response.class, () -> {
+                    throw new AssertionError("retry must not create the developer again");
+                });
+
+        assertEquals(memberId, replayed.getMemberId());
+        assertEquals(SENIOR, replayed.getDeveloperLevel());
+    }
+
+    private ResultActions create(String key, String memberId, int experienceYears) throws Exception {
+        return mockMvc.perform(post("/create-developer")
+                .header(IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(String.format(CREATE_REQUEST, experienceYears, memberId)));
+    }
+}
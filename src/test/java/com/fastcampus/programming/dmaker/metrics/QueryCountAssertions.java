@@ -0,0 +1,51 @@
+package com.fastcampus.programming.dmaker.metrics;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 서비스 호출(또는 MockMvc 요청) 하나가 실행한 SQL 문 개수를 검사한다.
+// 같은 스레드에서 실행된 SQL만 세므로 비동기 처리는 포함되지 않는다.
+public final class QueryCountAssertions {
+    @FunctionalInterface
+    public interface Statements {
+        void run() throws Exception;
+    }
+
+    private QueryCountAssertions() {
+    }
+
+    public static QueryCount countQueries(Statements statements) throws Exception {
+        QueryCountHolder.clear();
+        try {
+            statements.run();
+            return QueryCountHolder.getGrandTotal();
+        } finally {
+            QueryCountHolder.clear();
+        }
+    }
+
+    public static void assertSelectCount(long expected, Statements statements) throws Exception {
+        QueryCount count = countQueries(statements);
+        assertEquals(expected, count.getSelect(), () -> "select count, " + describe(count));
+    }
+
+    public static void assertInsertCount(long expected, Statements statements) throws Exception {
+        QueryCount count = countQueries(statements);
+        assertEquals(expected, count.getInsert(), () -> "insert count, " + describe(count));
+    }
+
+    public static void assertStatementCountAtMost(long max, Statements statements) throws Exception {
+        QueryCount count = countQueries(statements);
+        assertTrue(count.getTotal() <= max,
+                () -> "expected at most " + max + " statements, " + describe(count));
+    }
+
+    private static String describe(QueryCount count) {
+        return String.format("select=%d, insert=%d, update=%d, delete=%d, other=%d",
+                count.getSelect(), count.getInsert(), count.getUpdate(),
+                count.getDelete(), count.getOther());
+    }
+}
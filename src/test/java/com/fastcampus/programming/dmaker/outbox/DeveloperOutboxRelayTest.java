@@ -0,0 +1,206 @@
+package com.fastcampus.programming.dmaker.outbox;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperChangeDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperChangesDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.repository.DeveloperOutboxRepository;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.programming.dmaker.type.DeveloperEventType.*;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.JUNIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.*;
+
+// relay는 시작 시 한 번만 돌도록 interval을 길게 두고 테스트에서 직접 호출한다.
+@SpringBootTest(properties = {
+        "dmaker.outbox.sink=memory",
+        "dmaker.outbox.relay.interval=PT1H",
+        "dmaker.outbox.relay.batch-size=5"
+})
+class DeveloperOutboxRelayTest {
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    @Autowired
+    private DeveloperOutboxRelay developerOutboxRelay;
+
+    @Autowired
+    private InMemoryDeveloperEventSink inMemoryDeveloperEventSink;
+
+    @Autowired
+    private DeveloperOutboxRepository developerOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void relay_publishesChangesInOrder() throws Exception {
+        String memberId = "outbox" + SEQUENCE.incrementAndGet();
+        dmakerService.createDeveloper(createRequest(memberId));
+        dmakerService.editDeveloper(memberId, editRequest(), null);
+        dmakerService.deleteDeveloper(memberId);
+
+        developerOutboxRelay.relay();
+
+        List<DeveloperChangeDto> changes = changesOf(inMemoryDeveloperEventSink.getChanges(), memberId);
+        assertEquals(3, changes.size());
+        assertEquals(CREATED, changes.get(0).getEventType());
+        assertEquals(EDITED, changes.get(1).getEventType());
+        assertEquals(RETIRED, changes.get(2).getEventType());
+        assertTrue(changes.get(0).getSequence() < changes.get(1).getSequence());
+        assertTrue(changes.get(1).getSequence() < changes.get(2).getSequence());
+
+        JsonNode retired = objectMapper.readTree(changes.get(2).getDeveloper());
+        assertEquals(StatusCode.RETIRED.name(), retired.get("statusCode").asText());
+        assertEquals(JUNIOR.name(), retired.get("developerLevel").asText());
+    }
+
+    @Test
+    void getDeveloperChanges_pagesFromCursor() {
+        developerOutboxRelay.relay();
+        String since = DeveloperPageDto.encodeCursor(developerOutboxRepository.findMaxPublishSeq());
+        for (int i = 0; i < 3; i++) {
+            dmakerService.createDeveloper(createRequest("outbox" + SEQUENCE.incrementAndGet()));
+        }
+
+        // relay 전에는 발행된 변경이 없다.
+        DeveloperChangesDto unpublished = dmakerService.getDeveloperChanges(since, 2);
+        assertTrue(unpublished.getChanges().isEmpty());
+        assertEquals(since, unpublished.getNextCursor());
+
+        developerOutboxRelay.relay();
+        DeveloperChangesDto first = dmakerService.getDeveloperChanges(since, 2);
+        DeveloperChangesDto second = dmakerService.getDeveloperChanges(first.getNextCursor(), 2);
+        DeveloperChangesDto last = dmakerService.getDeveloperChanges(second.getNextCursor(), 2);
+
+        assertEquals(2, first.getChanges().size());
+        assertEquals(1, second.getChanges().size());
+        assertTrue(last.getChanges().isEmpty());
+        assertEquals(second.getNextCursor(), last.getNextCursor());
+        assertEquals(first.getChanges().get(1).getSequence() + 1,
+                second.getChanges().get(0).getSequence());
+    }
+
+    @Test
+    void concurrentRelays_publishEachEventOnce() {
+        developerOutboxRelay.relay();
+        long since = developerOutboxRepository.findMaxPublishSeq();
+        int sinkBefore = inMemoryDeveloperEventSink.getChanges().size();
+        for (int i = 0; i < 30; i++) {
+            dmakerService.createDeveloper(createRequest("outbox" + SEQUENCE.incrementAndGet()));
+        }
+
+        // 여러 인스턴스의 relay가 같은 DB를 보는 상황
+        CompletableFuture<?>[] relays = new CompletableFuture<?>[4];
+        for (int i = 0; i < relays.length; i++) {
+            relays[i] = CompletableFuture.runAsync(developerOutboxRelay::relay);
+        }
+        CompletableFuture.allOf(relays).join();
+        developerOutboxRelay.relay();
+
+        List<DeveloperChangeDto> published = inMemoryDeveloperEventSink.getChanges();
+        published = published.subList(sinkBefore, published.size());
+        assertEquals(30, published.size());
+        Set<Long> sequences = new HashSet<>();
+        for (DeveloperChangeDto change : published) {
+            assertTrue(sequences.add(change.getSequence()), change::toString);
+        }
+        // 빈 번호 없이 이어진다.
+        assertEquals(since + 1, Collections.min(sequences));
+        assertEquals(since + 30, Collections.max(sequences));
+    }
+
+    @Test
+    void rolledBack_leavesNoEvent() {
+        String memberId = "outbox" + SEQUENCE.incrementAndGet();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            dmakerService.createDeveloper(createRequest(memberId));
+            status.setRollbackOnly();
+        });
+
+        developerOutboxRelay.relay();
+
+        assertTrue(changesOf(inMemoryDeveloperEventSink.getChanges(), memberId).isEmpty());
+    }
+
+    @Test
+    void fileSink_appendsOneLinePerChange(@TempDir Path tempDir) throws Exception {
+        Path path = tempDir.resolve("developer-events.ndjson");
+        FileDeveloperEventSink sink = new FileDeveloperEventSink(path, objectMapper);
+
+        sink.publish(Collections.singletonList(change(1L, CREATED)));
+        sink.publish(Collections.singletonList(change(2L, EDITED)));
+
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(2, lines.size());
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals(2L, second.get("sequence").asLong());
+        assertEquals(EDITED.name(), second.get("eventType").asText());
+        // payload는 문자열이 아니라 json 객체로 들어간다.
+        assertEquals("file", second.get("developer").get("memberId").asText());
+    }
+
+    private static List<DeveloperChangeDto> changesOf(List<DeveloperChangeDto> changes, String memberId) {
+        return changes.stream()
+                .filter(change -> memberId.equals(change.getMemberId()))
+                .collect(Collectors.toList());
+    }
+
+    private static DeveloperChangeDto change(Long sequence, DeveloperEventType eventType) {
+        return DeveloperChangeDto.builder()
+                .sequence(sequence)
+                .eventType(eventType)
+                .memberId("file")
+                .occurredAt(LocalDateTime.now())
+                .developer("{\"memberId\":\"file\"}")
+                .build();
+    }
+
+    private static CreateDeveloper.Request createRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(32)
+                .build();
+    }
+
+    private static EditDeveloper.Request editRequest() {
+        return EditDeveloper.Request.builder()
+                .developerLevel(JUNIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(2)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import com.fastcampus.programming.dmaker.metrics.DbLatencySampler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+    private final DbLatencySampler dbLatencySampler = new DbLatencySampler();
+
+    @Test
+    void concurrentRequests_neverExceedLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(16);
+        int threads = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicLong acquired = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 2_000; i++) {
+                        if (!limiter.tryAcquire()) {
+                            rejected.incrementAndGet();
+                            continue;
+                        }
+                        acquired.incrementAndGet();
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.yield();
+                        running.decrementAndGet();
+                        limiter.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertTrue(maxRunning.get() <= 16, "max concurrent: " + maxRunning.get());
+        assertEquals(64 * 2_000, acquired.get() + rejected.get());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void adjust_backsOffOnDbLatency_andGrowsWhenSaturated() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        // 평균 80ms > target 50ms
+        dbLatencySampler.record(60);
+        dbLatencySampler.record(100);
+        limiter.adjust();
+        assertEquals(10, limiter.getLimit());
+
+        // 더 줄어도 min-limit 아래로는 내려가지 않는다.
+        dbLatencySampler.record(500);
+        limiter.adjust();
+        assertEquals(8, limiter.getLimit());
+
+        // 지연은 정상이지만 limit까지 찼던 경우
+        for (int i = 0; i < 8; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+        dbLatencySampler.record(1);
+        limiter.adjust();
+        assertEquals(9, limiter.getLimit());
+        assertTrue(limiter.tryAcquire());
+        limiter.adjust();
+        assertEquals(10, limiter.getLimit());
+
+        // limit까지 차지 않았으면 그대로
+        limiter.adjust();
+        assertEquals(10, limiter.getLimit());
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        RateLimitProperties.Concurrency properties = new RateLimitProperties.Concurrency();
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(8);
+        properties.setMaxLimit(100);
+        properties.setTargetLatency(Duration.ofMillis(50));
+        properties.setBackoffRatio(0.5);
+
+        return new AdaptiveConcurrencyLimiter(dbLatencySampler, properties);
+    }
+}
@@ -0,0 +1,150 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import com.fastcampus.programming.dmaker.controller.DMakerController;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Collections;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.CLIENT_ID_HEADER;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.REQUESTS_REJECTED;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.TOO_MANY_REQUESTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// adjust-interval을 길게 두어 테스트 중에 concurrency limit이 바뀌지 않게 한다.
+// 클라이언트는 gateway가 넣어 준 X-Client-Id 로 구분한다고 가정한다.
+@SpringBootTest(properties = {
+        "dmaker.rate-limit.enabled=true",
+        "dmaker.rate-limit.client-header=" + CLIENT_ID_HEADER,
+        "dmaker.rate-limit.limits[GET\\ /developers/stats].capacity=2",
+        "dmaker.rate-limit.limits[GET\\ /developers/stats].refill-per-second=0.001",
+        "dmaker.rate-limit.limits[POST\\ /create-developer].capacity=1",
+        "dmaker.rate-limit.limits[POST\\ /create-developer].refill-per-second=0.001",
+        "dmaker.rate-limit.concurrency.adjust-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class RateLimitInterceptorTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DMakerController dMakerController;
+
+    @Test
+    void emptyBucket_rejectsWith429PerClient() throws Exception {
+        mockMvc.perform(get("/developers/stats").header(CLIENT_ID_HEADER, "greedy")).andExpect(status().isOk());
+        mockMvc.perform(get("/developers/stats").header(CLIENT_ID_HEADER, "greedy")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/developers/stats").header(CLIENT_ID_HEADER, "greedy"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.errorCode").value("TOO_MANY_REQUESTS"));
+        // 다른 클라이언트, 다른 매핑은 영향 없다.
+        mockMvc.perform(get("/developers/stats").header(CLIENT_ID_HEADER, "polite")).andExpect(status().isOk());
+        mockMvc.perform(get("/developers/page").header(CLIENT_ID_HEADER, "greedy")).andExpect(status().isOk());
+
+        assertEquals(1.0, meterRegistry.counter(REQUESTS_REJECTED,
+                "endpoint", "GET /developers/stats", "reason", "rate").count());
+    }
+
+    // 핸들러 메서드 이름이 같아도(createDevelopers) 매핑이 다르면 버킷이 다르다.
+    @Test
+    void sameHandlerName_differentMapping_usesSeparateBuckets() throws Exception {
+        String body = "{\"memberId\":\"\"}";
+        mockMvc.perform(post("/create-developer").header(CLIENT_ID_HEADER, "bulk")
+                .contentType(MediaType.APPLICATION_JSON).content(body));
+        mockMvc.perform(post("/create-developer").header(CLIENT_ID_HEADER, "bulk")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests());
+
+        int status = mockMvc.perform(post("/create-developers").header(CLIENT_ID_HEADER, "bulk")
+                        .contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andReturn().getResponse().getStatus();
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS.value(), status);
+    }
+
+    @Test
+    void concurrencyLimitReached_shedsWith503() throws Exception {
+        int held = 0;
+        while (concurrencyLimiter.tryAcquire()) {
+            held++;
+        }
+        try {
+            mockMvc.perform(get("/developers/page").header(CLIENT_ID_HEADER, "shed"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.errorCode").value("SERVICE_OVERLOADED"));
+        } finally {
+            for (int i = 0; i < held; i++) {
+                concurrencyLimiter.release();
+            }
+        }
+
+        mockMvc.perform(get("/developers/page").header(CLIENT_ID_HEADER, "shed")).andExpect(status().isOk());
+        assertTrue(meterRegistry.counter(REQUESTS_REJECTED,
+                "endpoint", "GET /developers/page", "reason", "concurrency").count() >= 1);
+        assertEquals(0, concurrencyLimiter.getInFlight());
+    }
+
+    // 비동기 응답도 끝나면 permit을 돌려준다.
+    @Test
+    void streamingResponse_releasesPermitWhenDone() throws Exception {
+        MvcResult result = mockMvc.perform(get("/developers/stream").header(CLIENT_ID_HEADER, "stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        assertEquals(0, concurrencyLimiter.getInFlight());
+    }
+
+    // client-header를 지정하지 않으면 클라이언트가 보낸 header는 무시하고 IP로 나눈다.
+    @Test
+    void untrustedClientHeader_cannotBypassBucket() throws Exception {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(1);
+        limit.setRefillPerSecond(0.001);
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(DMakerController.class,
+                new RateLimiter(Caffeine.newBuilder().build(), limit, Collections.emptyMap()),
+                null, meterRegistry, null);
+        HandlerMethod handler = new HandlerMethod(dMakerController, "getDeveloperStats");
+
+        assertTrue(interceptor.preHandle(requestFrom("10.0.0.1", "first"), new MockHttpServletResponse(), handler));
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> interceptor.preHandle(requestFrom("10.0.0.1", "second"), new MockHttpServletResponse(), handler));
+        assertEquals(TOO_MANY_REQUESTS, exception.getDMakerErrorCode());
+        // 다른 IP는 영향 없다.
+        assertTrue(interceptor.preHandle(requestFrom("10.0.0.2", "first"), new MockHttpServletResponse(), handler));
+    }
+
+    private static MockHttpServletRequest requestFrom(String remoteAddr, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/developers/stats");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader(CLIENT_ID_HEADER, clientId);
+        return request;
+    }
+}
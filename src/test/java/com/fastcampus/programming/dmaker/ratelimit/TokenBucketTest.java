@@ -0,0 +1,95 @@
+package com.fastcampus.programming.dmaker.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+    private static final int THREADS = 64;
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void burstUpToCapacity_thenRefill() {
+        TokenBucket bucket = new TokenBucket(3, 10, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        // 초당 10개 -> 다음 토큰까지 100ms
+        assertEquals(100 * MILLI, bucket.tryAcquire(0));
+        assertEquals(50 * MILLI, bucket.tryAcquire(50 * MILLI));
+        assertEquals(0, bucket.tryAcquire(100 * MILLI));
+        assertTrue(bucket.tryAcquire(100 * MILLI) > 0);
+        // 오래 쉬어도 capacity 이상 쌓이지 않는다.
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(10_000 * MILLI));
+        }
+        assertTrue(bucket.tryAcquire(10_000 * MILLI) > 0);
+    }
+
+    @Test
+    void concurrentAcquire_neverExceedsCapacity() throws Exception {
+        int capacity = 5_000;
+        TokenBucket bucket = new TokenBucket(capacity, 1, 0);
+
+        int acquired = runConcurrently(() -> bucket.tryAcquire(0) == 0, 1_000);
+
+        assertEquals(capacity, acquired);
+    }
+
+    @Test
+    void rateLimiter_sharesBucketPerClientAndEndpoint() throws Exception {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(1_000);
+        limit.setRefillPerSecond(0.001);
+        RateLimiter rateLimiter = new RateLimiter(Caffeine.newBuilder().build(), limit, Collections.emptyMap());
+
+        int acquired = runConcurrently(() -> rateLimiter.tryAcquire("client", "getAllDevelopers") == 0, 100);
+
+        assertEquals(1_000, acquired);
+        assertTrue(rateLimiter.tryAcquire("client", "getAllDevelopers") > 0);
+        assertEquals(0, rateLimiter.tryAcquire("client", "getDeveloperStats"));
+        assertEquals(0, rateLimiter.tryAcquire("other", "getAllDevelopers"));
+    }
+
+    interface Attempt {
+        boolean run();
+    }
+
+    // THREADS 개 스레드가 동시에 attemptsPerThread 번씩 시도하고 성공 횟수를 센다.
+    private static int runConcurrently(Attempt attempt, int attemptsPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicInteger acquired = new AtomicInteger();
+        for (int t = 0; t < THREADS; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (attempt.run()) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        return acquired.get();
+    }
+}
@@ -0,0 +1,116 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.dto.RetireDevelopers;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.service.DeveloperBulkService;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Collections;
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_REGION;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_STATUS_QUERY_REGION;
+import static com.fastcampus.programming.dmaker.metrics.QueryCountAssertions.assertSelectCount;
+import static com.fastcampus.programming.dmaker.metrics.QueryCountAssertions.assertStatementCountAtMost;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.FRONT_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// hibernate second-level cache (entity, memberId natural id, 상태별 목록 query)
+@SpringBootTest
+class DeveloperSecondLevelCacheTest {
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    @Autowired
+    private DeveloperBulkService developerBulkService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void loadByMemberId_secondLookupIssuesNoSql() throws Exception {
+        createDeveloper("secondLevel1");
+        entityManagerFactory.getCache().evictAll();
+
+        // memberId -> id, id -> Developer
+        assertStatementCountAtMost(2, () -> developerRepository.loadByMemberId("secondLevel1"));
+        assertStatementCountAtMost(0, () -> developerRepository.loadByMemberId("secondLevel1"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertTrue(statistics.getDomainDataRegionStatistics(DEVELOPER_REGION).getHitCount() > 0);
+    }
+
+    @Test
+    void editDeveloper_updatesCachedEntity() throws Exception {
+        createDeveloper("secondLevel2");
+        developerRepository.loadByMemberId("secondLevel2");
+
+        dmakerService.editDeveloper("secondLevel2", EditDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(FRONT_END)
+                .experienceYears(15)
+                .build(), null);
+
+        Developer developer = developerRepository.loadByMemberId("secondLevel2").orElseThrow();
+        assertEquals(FRONT_END, developer.getDeveloperSkillType());
+        assertEquals(15, developer.getExperienceYears());
+        assertEquals(1L, developer.getVersion());
+        assertStatementCountAtMost(0, () -> developerRepository.loadByMemberId("secondLevel2"));
+    }
+
+    // JPQL bulk update(set 단위 퇴직)는 region을 비워서 다음 조회가 DB를 다시 읽는다.
+    @Test
+    void bulkRetire_evictsCachedEntity() throws Exception {
+        createDeveloper("secondLevel3");
+        developerRepository.loadByMemberId("secondLevel3");
+
+        developerBulkService.retireDevelopers(RetireDevelopers.Request.builder()
+                .memberIds(Collections.singletonList("secondLevel3"))
+                .build());
+
+        assertEquals(StatusCode.RETIRED,
+                developerRepository.loadByMemberId("secondLevel3").orElseThrow().getStatusCode());
+    }
+
+    @Test
+    void employedDevelopers_servedFromQueryCacheUntilTableChanges() throws Exception {
+        createDeveloper("secondLevel4");
+
+        assertSelectCount(1, () -> dmakerService.getAllEmployedDevelopers());
+        assertStatementCountAtMost(0, () -> dmakerService.getAllEmployedDevelopers());
+
+        createDeveloper("secondLevel5");
+        List<DeveloperDto> developers = dmakerService.getAllEmployedDevelopers();
+        assertTrue(developers.stream().anyMatch(developer -> developer.getMemberId().equals("secondLevel5")));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertTrue(statistics.getQueryRegionStatistics(DEVELOPER_STATUS_QUERY_REGION).getHitCount() > 0);
+    }
+
+    private void createDeveloper(String memberId) {
+        dmakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(32)
+                .build());
+    }
+}
@@ -0,0 +1,182 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.BulkCreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperCountDto;
+import com.fastcampus.programming.dmaker.dto.RetireDevelopers;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.stats.DeveloperStats;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.*;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.*;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.FULL_STACK;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "dmaker.bulk.batch-size=2",
+        "dmaker.bulk.retire-chunk-size=2"
+})
+class DeveloperBulkServiceTest {
+    @Autowired
+    private DeveloperBulkService developerBulkService;
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private RetiredDeveloperRepository retiredDeveloperRepository;
+
+    @Autowired
+    private DeveloperStats developerStats;
+
+    // 대량 처리 후에도 DeveloperStats 인원 수가 DB GROUP BY 결과와 같아야 한다.
+    @AfterEach
+    void statsMatchDatabase() {
+        for (DeveloperCountDto count : developerStats.getCounts()) {
+            long expected = developerRepository
+                    .countDevelopersGroupByLevelAndSkillTypeAndStatusCode().stream()
+                    .filter(actual -> actual.getDeveloperLevel() == count.getDeveloperLevel()
+                            && actual.getDeveloperSkillType() == count.getDeveloperSkillType()
+                            && actual.getStatusCode() == count.getStatusCode())
+                    .mapToLong(DeveloperCountDto::getCount)
+                    .sum();
+            assertEquals(expected, count.getCount(), count::toString);
+        }
+    }
+
+    private CreateDeveloper.Request createRequest(
+            String memberId, DeveloperLevel developerLevel, Integer experienceYears
+    ) {
+        return createRequest(memberId, developerLevel, BACK_END, experienceYears);
+    }
+
+    private CreateDeveloper.Request createRequest(
+            String memberId, DeveloperLevel developerLevel,
+            DeveloperSkillType developerSkillType, Integer experienceYears
+    ) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(developerLevel)
+                .developerSkillType(developerSkillType)
+                .experienceYears(experienceYears)
+                .memberId(memberId)
+                .name("name")
+                .age(32)
+                .build();
+    }
+
+    @Test
+    void createDevelopers_reportsResultPerItem() {
+        // given
+        dmakerService.createDeveloper(createRequest("bulk-existing", SENIOR, 12));
+        List<CreateDeveloper.Request> requests = Arrays.asList(
+                createRequest("bulk-1", SENIOR, 12),
+                createRequest("bulk-existing", SENIOR, 12),
+                createRequest("bulk-2", JUNIOR, 15),
+                createRequest("bulk-1", SENIOR, 12),
+                createRequest("b", SENIOR, 12),
+                createRequest("bulk-3", NEW, 0)
+        );
+
+        // when
+        BulkCreateDeveloper.Response response =
+                developerBulkService.createDevelopers(requests.iterator());
+
+        // then
+        assertEquals(2, response.getCreatedCount());
+        assertEquals(4, response.getFailedCount());
+        List<BulkCreateDeveloper.Result> results = response.getResults();
+        assertTrue(results.get(0).isCreated());
+        assertEquals(DUPLICATED_MEMBER_ID, results.get(1).getErrorCode());
+        assertEquals(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, results.get(2).getErrorCode());
+        assertEquals(DUPLICATED_MEMBER_ID, results.get(3).getErrorCode());
+        assertEquals(INVALID_REQUEST, results.get(4).getErrorCode());
+        assertTrue(results.get(5).isCreated());
+        assertTrue(developerRepository.findByMemberId("bulk-1").isPresent());
+        assertTrue(developerRepository.findByMemberId("bulk-3").isPresent());
+        assertFalse(developerRepository.findByMemberId("bulk-2").isPresent());
+    }
+
+    @Test
+    void retireDevelopers_byMemberIds_matchesDeleteDeveloper() {
+        // given
+        for (String memberId : Arrays.asList("loop-1", "loop-2", "bulk-r-1", "bulk-r-2", "bulk-r-3")) {
+            dmakerService.createDeveloper(createRequest(memberId, SENIOR, 12));
+        }
+
+        // when
+        dmakerService.deleteDeveloper("loop-1");
+        dmakerService.deleteDeveloper("loop-2");
+        RetireDevelopers.Response response = developerBulkService.retireDevelopers(
+                RetireDevelopers.Request.builder()
+                        .memberIds(Arrays.asList("bulk-r-1", "unknown", "bulk-r-2", "bulk-r-3"))
+                        .build());
+
+        // then
+        assertEquals(3, response.getRetiredCount());
+        assertEquals(Collections.singletonList("unknown"), response.getNotFoundMemberIds());
+        for (String memberId : Arrays.asList("loop-1", "loop-2", "bulk-r-1", "bulk-r-2", "bulk-r-3")) {
+            Developer developer = developerRepository.findByMemberId(memberId).orElseThrow();
+            assertEquals(StatusCode.RETIRED, developer.getStatusCode());
+            assertEquals(StatusCode.RETIRED, dmakerService.getDeveloperDetail(memberId).getStatusCode());
+
+            List<RetiredDeveloper> retired = retiredDeveloperRepository.findAll().stream()
+                    .filter(retiredDeveloper -> memberId.equals(retiredDeveloper.getMemberId()))
+                    .collect(Collectors.toList());
+            assertEquals(1, retired.size());
+            assertEquals(developer.getName(), retired.get(0).getName());
+            assertNotNull(retired.get(0).getCreatedAt());
+            assertNotNull(retired.get(0).getUpdatedAt());
+        }
+    }
+
+    @Test
+    void retireDevelopers_byFilter() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            dmakerService.createDeveloper(createRequest("filter-" + i, JUNGNIOR, FULL_STACK, 7));
+        }
+        dmakerService.createDeveloper(createRequest("filter-other", JUNGNIOR, BACK_END, 7));
+
+        // when
+        RetireDevelopers.Response response = developerBulkService.retireDevelopers(
+                RetireDevelopers.Request.builder()
+                        .developerLevel(JUNGNIOR)
+                        .developerSkillType(FULL_STACK)
+                        .build());
+
+        // then
+        assertEquals(5, response.getRetiredCount());
+        assertEquals(StatusCode.RETIRED,
+                developerRepository.findByMemberId("filter-4").orElseThrow().getStatusCode());
+        assertEquals(StatusCode.EMPLOYED,
+                developerRepository.findByMemberId("filter-other").orElseThrow().getStatusCode());
+    }
+
+    @Test
+    void retireDevelopers_withoutTarget() {
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> developerBulkService.retireDevelopers(new RetireDevelopers.Request()));
+
+        assertEquals(INVALID_REQUEST, dMakerException.getDMakerErrorCode());
+    }
+}
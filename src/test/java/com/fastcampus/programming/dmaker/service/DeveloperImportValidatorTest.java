@@ -0,0 +1,101 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.ValidateDevelopers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeveloperImportValidatorTest {
+    private static final String ROW = "{\"developerLevel\":\"SENIOR\",\"developerSkillType\":\"BACK_END\","
+            + "\"experienceYears\":12,\"memberId\":\"%s\",\"name\":\"name\",\"age\":32}\n";
+
+    private final DeveloperImportValidator validator = new DeveloperImportValidator(new ObjectMapper());
+
+    @Test
+    void validate_reportsInvalidRowsOnly() throws Exception {
+        String ndjson = String.format(ROW, "import1")
+                + "{\"developerLevel\":\"JUNIOR\",\"developerSkillType\":\"BACK_END\","
+                + "\"experienceYears\":15,\"memberId\":\"import2\",\"name\":\"name\"}\n"
+                + "{\"developerLevel\":\"SENIOR\",\"developerSkillType\":\"BACK_END\","
+                + "\"experienceYears\":12,\"memberId\":\"i3\",\"name\":\"name\"}\n"
+                + "{\"developerLevel\":\"MASTER\",\"developerSkillType\":\"BACK_END\","
+                + "\"experienceYears\":12,\"memberId\":\"import4\",\"name\":\"name\"}\n"
+                + "{\"developerSkillType\":\"BACK_END\",\"experienceYears\":\"12\",\"name\":\"name\"}\n"
+                + "\"not an object\"\n"
+                + "{\"developerLevel\":\"NEW\",\"developerSkillType\":\"FULL_STACK\","
+                + "\"experienceYears\":0,\"memberId\":\"import7\",\"name\":\"name\",\"extra\":{\"a\":[1]}}\n";
+
+        ValidateDevelopers.Response response = validate(ndjson);
+
+        assertEquals(2, response.getValidCount());
+        assertEquals(5, response.getInvalidCount());
+        List<ValidateDevelopers.Result> invalidRows = response.getInvalidRows();
+        assertEquals(1, invalidRows.get(0).getIndex());
+        assertEquals("import2", invalidRows.get(0).getMemberId());
+        assertEquals(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, invalidRows.get(0).getErrorCode());
+        assertEquals(2, invalidRows.get(1).getIndex());
+        assertEquals(INVALID_REQUEST, invalidRows.get(1).getErrorCode());
+        assertEquals("memberId: memberId size must 3 to 50", invalidRows.get(1).getErrorMessage());
+        assertEquals("developerLevel: invalid value", invalidRows.get(2).getErrorMessage());
+        assertNull(invalidRows.get(3).getMemberId());
+        assertEquals("experienceYears: invalid value", invalidRows.get(3).getErrorMessage());
+        assertEquals(5, invalidRows.get(4).getIndex());
+    }
+
+    @Test
+    void validate_acceptsJsonArray() throws Exception {
+        ValidateDevelopers.Response response = validate(
+                "[" + String.format(ROW, "array1") + "," + String.format(ROW, "array2") + "]");
+
+        assertEquals(2, response.getValidCount());
+        assertEquals(0, response.getInvalidCount());
+    }
+
+    // 통과한 행 수가 늘어도 할당량은 (거의) 늘지 않는다.
+    @Test
+    void validRows_doNotAllocatePerRow() throws Exception {
+        byte[] small = rows(1_000);
+        byte[] large = rows(100_000);
+        validate(large);
+
+        long smallBytes = allocatedBytes(small);
+        long largeBytes = allocatedBytes(large);
+
+        assertTrue(largeBytes - smallBytes < 1_000_000,
+                "1,000 rows: " + smallBytes + " bytes, 100,000 rows: " + largeBytes + " bytes");
+    }
+
+    private ValidateDevelopers.Response validate(String body) throws Exception {
+        return validator.validate(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private long allocatedBytes(byte[] body) throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        ValidateDevelopers.Response response = validator.validate(new ByteArrayInputStream(body));
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(0, response.getInvalidCount());
+        return allocated;
+    }
+
+    private static byte[] rows(int count) {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            ndjson.append(String.format(ROW, "memberId" + i));
+        }
+        return ndjson.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
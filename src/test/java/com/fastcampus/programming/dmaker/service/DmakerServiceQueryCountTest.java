@@ -0,0 +1,90 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fastcampus.programming.dmaker.metrics.QueryCountAssertions.*;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.FRONT_END;
+
+// 서비스 메서드 별 SQL 문 개수 예산. N+1 이 생기면 여기서 실패한다.
+@SpringBootTest
+class DmakerServiceQueryCountTest {
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    private String memberId;
+
+    @BeforeEach
+    void setUp() {
+        // 목록 조회가 여러 건을 읽도록 매번 몇 건씩 추가한다.
+        for (int i = 0; i < 3; i++) {
+            memberId = "queryCount" + SEQUENCE.incrementAndGet();
+            dmakerService.createDeveloper(createRequest(memberId));
+        }
+    }
+
+    @Test
+    void getAllEmployedDevelopers() throws Exception {
+        assertSelectCount(1, () -> dmakerService.getAllEmployedDevelopers());
+        // query cache hit (developer 테이블이 그 사이 바뀌지 않았다.)
+        assertStatementCountAtMost(0, () -> dmakerService.getAllEmployedDevelopers());
+    }
+
+    @Test
+    void getEmployedDevelopers() throws Exception {
+        assertStatementCountAtMost(1, () -> dmakerService.getEmployedDevelopers(null, 2));
+    }
+
+    @Test
+    void getDeveloperDetail() throws Exception {
+        // 생성할 때 second-level cache에 들어간 엔티티를 읽으면 select 도 없다.
+        assertStatementCountAtMost(1, () -> dmakerService.getDeveloperDetail(memberId));
+        // 캐시 hit
+        assertStatementCountAtMost(0, () -> dmakerService.getDeveloperDetail(memberId));
+    }
+
+    @Test
+    void createDeveloper() throws Exception {
+        // developer + developer_outbox
+        assertInsertCount(2, () -> dmakerService.createDeveloper(
+                createRequest("queryCount" + SEQUENCE.incrementAndGet())));
+    }
+
+    @Test
+    void editDeveloper() throws Exception {
+        // select + update + insert(developer_outbox) (+ outbox sequence 50건마다 1번)
+        assertStatementCountAtMost(4, () -> dmakerService.editDeveloper(memberId,
+                EditDeveloper.Request.builder()
+                        .developerLevel(SENIOR)
+                        .developerSkillType(FRONT_END)
+                        .experienceYears(15)
+                        .build(), null));
+    }
+
+    @Test
+    void deleteDeveloper() throws Exception {
+        // select + update + insert(retired_developer) + insert(developer_outbox) (+ outbox sequence)
+        assertStatementCountAtMost(5, () -> dmakerService.deleteDeveloper(memberId));
+    }
+
+    private static CreateDeveloper.Request createRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(32)
+                .build();
+    }
+}
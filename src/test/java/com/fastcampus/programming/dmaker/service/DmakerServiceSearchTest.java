@@ -0,0 +1,125 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.dto.SearchDevelopers;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
+import static com.fastcampus.programming.dmaker.metrics.QueryCountAssertions.assertStatementCountAtMost;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.*;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DmakerServiceSearchTest {
+    // 다른 테스트와 DB를 같이 쓰므로 모든 검색에 namePrefix를 건다. ('_'가 wildcard로 동작하면 안 된다.)
+    private static final String PREFIX = "srch_";
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    @BeforeAll
+    void setUp() {
+        create("search1", "srch_kim", SENIOR, BACK_END, 12, 35);
+        create("search2", "srch_lee", SENIOR, FRONT_END, 15, 40);
+        create("search3", "srch_park", JUNGNIOR, BACK_END, 6, 30);
+        create("search4", "srch_choi", JUNIOR, FULL_STACK, 2, 25);
+        create("search5", "srch_jung", JUNIOR, BACK_END, 1, 23);
+        create("search6", "srchXkim", SENIOR, BACK_END, 11, 33);
+        dmakerService.deleteDeveloper("search5");
+    }
+
+    @Test
+    void searchByEachFilter() {
+        assertEquals(Arrays.asList("search1", "search2", "search3", "search4"),
+                search(request().build()));
+        assertEquals(Arrays.asList("search1", "search2"),
+                search(request().developerLevel(SENIOR).build()));
+        assertEquals(Arrays.asList("search1", "search3"),
+                search(request().developerSkillType(BACK_END).build()));
+        assertEquals(Arrays.asList("search1", "search3"),
+                search(request().minExperienceYears(5).maxExperienceYears(12).build()));
+        assertEquals(Arrays.asList("search3", "search4"),
+                search(request().maxAge(30).build()));
+        assertEquals(Arrays.asList("search2"),
+                search(request().minAge(36).build()));
+        assertEquals(Arrays.asList("search5"),
+                search(request().statusCode(StatusCode.RETIRED).build()));
+        assertEquals(Arrays.asList("search1"),
+                search(request().namePrefix("srch_k").build()));
+    }
+
+    @Test
+    void searchByCombinedFilters() {
+        assertEquals(Arrays.asList("search1"),
+                search(request()
+                        .developerLevel(SENIOR)
+                        .developerSkillType(BACK_END)
+                        .minExperienceYears(10)
+                        .maxAge(35)
+                        .build()));
+    }
+
+    @Test
+    void searchWithKeysetPagination() throws Exception {
+        SearchDevelopers.Request request = request().size(3).build();
+        // 한 페이지에 select 한 번 (count 쿼리 없음)
+        assertStatementCountAtMost(1, () -> dmakerService.searchDevelopers(request));
+
+        DeveloperPageDto first = dmakerService.searchDevelopers(request);
+        request.setCursor(first.getNextCursor());
+        DeveloperPageDto second = dmakerService.searchDevelopers(request);
+
+        assertEquals(Arrays.asList("search1", "search2", "search3"), memberIds(first.getDevelopers()));
+        assertNotNull(first.getNextCursor());
+        assertEquals(Arrays.asList("search4"), memberIds(second.getDevelopers()));
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void searchWithInvalidRange() {
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> dmakerService.searchDevelopers(request().minAge(40).maxAge(30).build()));
+
+        assertEquals(INVALID_REQUEST, exception.getDMakerErrorCode());
+    }
+
+    private static SearchDevelopers.Request.RequestBuilder request() {
+        return SearchDevelopers.Request.builder().namePrefix(PREFIX);
+    }
+
+    private List<String> search(SearchDevelopers.Request request) {
+        return memberIds(dmakerService.searchDevelopers(request).getDevelopers());
+    }
+
+    private static List<String> memberIds(List<DeveloperDto> developers) {
+        return developers.stream().map(DeveloperDto::getMemberId).collect(Collectors.toList());
+    }
+
+    private void create(String memberId, String name, DeveloperLevel developerLevel,
+                        DeveloperSkillType developerSkillType, int experienceYears, int age) {
+        dmakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(developerLevel)
+                .developerSkillType(developerSkillType)
+                .experienceYears(experienceYears)
+                .memberId(memberId)
+                .name(name)
+                .age(age)
+                .build());
+    }
+}
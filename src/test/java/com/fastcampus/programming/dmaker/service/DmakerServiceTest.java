@@ -1,21 +1,32 @@
 package com.fastcampus.programming.dmaker.service;
 
+import com.fastcampus.programming.dmaker.audit.DeveloperAuditor;
+import com.fastcampus.programming.dmaker.cache.DeveloperDetailCache;
+import com.fastcampus.programming.dmaker.coalescing.DeveloperEditCoalescer;
 import com.fastcampus.programming.dmaker.code.StatusCode;
 import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
 import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
 import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.outbox.DeveloperOutbox;
+import com.fastcampus.programming.dmaker.repository.ArchivedDeveloperRepository;
 import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import com.fastcampus.programming.dmaker.stats.DeveloperStats;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 
@@ -26,7 +37,10 @@ import static com.fastcampus.programming.dmaker.type.DeveloperLevel.*;
 import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.FRONT_END;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -36,6 +50,28 @@ class DmakerServiceTest {
     @Mock
     private DeveloperRepository developerRepository;
 
+    @Mock
+    private ArchivedDeveloperRepository archivedDeveloperRepository;
+
+    @Mock
+    private DeveloperStats developerStats;
+
+    @Mock
+    private DeveloperOutbox developerOutbox;
+
+    @Mock
+    private DeveloperAuditor developerAuditor;
+
+    @Mock
+    private DeveloperEditCoalescer developerEditCoalescer;
+
+    @Spy
+    private DeveloperDetailCache developerDetailCache =
+            new DeveloperDetailCache(Caffeine.newBuilder().build());
+
+    @Spy
+    private DeveloperShards developerShards = DeveloperShards.single();
+
     @InjectMocks
     private DmakerService dmakerService;
 
@@ -66,7 +102,7 @@ class DmakerServiceTest {
     @Test
     public void testSomething() {
         // given
-        given(developerRepository.findByMemberId(anyString()))
+        given(developerRepository.loadByMemberId(anyString()))
                 .willReturn(Optional.of(defaultDeveloper));
 
         // when
@@ -78,12 +114,25 @@ class DmakerServiceTest {
         assertEquals(12, developerdetail.getExperienceYears());
     }
 
+    @Test
+    void getDeveloperDetailTest_cached() {
+        // given
+        given(developerRepository.loadByMemberId(anyString()))
+                .willReturn(Optional.of(defaultDeveloper));
+
+        // when
+        dmakerService.getDeveloperDetail("memberId");
+        DeveloperDetailDto developerDetail = dmakerService.getDeveloperDetail("memberId");
+
+        // then
+        verify(developerRepository, times(1)).loadByMemberId("memberId");
+        assertEquals(SENIOR, developerDetail.getDeveloperLevel());
+    }
+
     @Test
     void createDeveloperTest_success() {
         // given
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.empty());
-        given(developerRepository.save(ArgumentMatchers.any()))
+        given(developerRepository.saveAndFlush(ArgumentMatchers.any()))
                 .willReturn(defaultDeveloper);
         // DB에 저장되는 데이터가 뭔지 확인하고 싶을때
         ArgumentCaptor<Developer> captor = ArgumentCaptor.forClass(Developer.class);
@@ -93,18 +142,21 @@ class DmakerServiceTest {
 
         // then
         verify(developerRepository, times(1))
-                .save(captor.capture());
+                .saveAndFlush(captor.capture());
+        verify(developerRepository, never()).loadByMemberId(anyString());
+        verify(developerAuditor, times(1))
+                .record(eq(DeveloperEventType.CREATED), isNull(), ArgumentMatchers.any());
         Developer savedDeveloper = captor.getValue();
         assertEquals(SENIOR, savedDeveloper.getDeveloperLevel());
         assertEquals(FRONT_END, savedDeveloper.getDeveloperSkillType());
-        assertEquals(12, savedDeveloper.getExperienceYears());
+        assertEquals(MIN_SEINOR_EXPERIENCE_YEARS, savedDeveloper.getExperienceYears());
     }
 
     @Test
     void createDeveloperTest_failed_with_duplicated() {
         // given
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.of(defaultDeveloper));
+        given(developerRepository.saveAndFlush(ArgumentMatchers.any()))
+                .willThrow(new DataIntegrityViolationException("ux_developer_member_id"));
 
         // when
         // then
@@ -115,6 +167,18 @@ class DmakerServiceTest {
         assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, dMakerException.getDMakerErrorCode());
     }
 
+    @Test
+    void createDeveloperTest_rethrows_other_integrity_violation() {
+        // given
+        given(developerRepository.saveAndFlush(ArgumentMatchers.any()))
+                .willThrow(new DataIntegrityViolationException("NULL not allowed for column \"NAME\""));
+
+        // when
+        // then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> dmakerService.createDeveloper(getCreateRequest(SENIOR, FRONT_END, MIN_SEINOR_EXPERIENCE_YEARS)));
+    }
+
     @Test
     void createDeveloperTest_fail_with_unmatched_level() {
         // when
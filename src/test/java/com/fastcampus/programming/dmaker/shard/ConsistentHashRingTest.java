@@ -0,0 +1,69 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+    private static final int KEYS = 100_000;
+
+    @Test
+    void shardOf_isDeterministic() {
+        ConsistentHashRing ring = new ConsistentHashRing(4, 128);
+        ConsistentHashRing same = new ConsistentHashRing(4, 128);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(ring.shardOf("member" + i), same.shardOf("member" + i));
+        }
+    }
+
+    @Test
+    void keys_spreadEvenlyAcrossShards() {
+        ConsistentHashRing ring = new ConsistentHashRing(4, 128);
+        int[] counts = new int[4];
+
+        for (int i = 0; i < KEYS; i++) {
+            counts[ring.shardOf("member" + i)]++;
+        }
+
+        // 균등하면 25,000. virtual node 128개면 ±20% 안에 든다.
+        for (int count : counts) {
+            assertTrue(count > KEYS / 4 * 0.8 && count < KEYS / 4 * 1.2, "count: " + count);
+        }
+    }
+
+    @Test
+    void addingShard_movesOnlyKeysOfNewShard() {
+        ConsistentHashRing before = new ConsistentHashRing(3, 128);
+        ConsistentHashRing after = new ConsistentHashRing(4, 128);
+        int moved = 0;
+
+        for (int i = 0; i < KEYS; i++) {
+            String key = "member" + i;
+            if (before.shardOf(key) != after.shardOf(key)) {
+                assertEquals(3, after.shardOf(key));
+                moved++;
+            }
+        }
+
+        // 약 1/4
+        assertTrue(moved > KEYS / 4 * 0.8 && moved < KEYS / 4 * 1.2, "moved: " + moved);
+    }
+
+    @Test
+    void singleShard_ownsEveryKey() {
+        ConsistentHashRing ring = new ConsistentHashRing(1, 16);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, ring.shardOf("member" + i));
+        }
+    }
+
+    @Test
+    void invalidArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(0, 128));
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(2, 0));
+    }
+}
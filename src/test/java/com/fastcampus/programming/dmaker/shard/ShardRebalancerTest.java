@@ -0,0 +1,121 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// shard 마다 H2 in-memory DB 하나
+class ShardRebalancerTest {
+    private static final int DEVELOPERS = 300;
+
+    @Test
+    void rebalance_movesRowsToOwnerShard() {
+        List<DataSource> shards = shards(3);
+        ConsistentHashRing twoShards = new ConsistentHashRing(2, 64);
+        ConsistentHashRing threeShards = new ConsistentHashRing(3, 64);
+        for (int i = 1; i <= DEVELOPERS; i++) {
+            String memberId = "member" + i;
+            JdbcTemplate shard = new JdbcTemplate(shards.get(twoShards.shardOf(memberId)));
+            shard.update("insert into developer (id, member_id, name, status_code, developer_level, " +
+                    "developer_skill_type, experience_years, age) values (?, ?, ?, ?, 'SENIOR', 'BACK_END', 12, 32)",
+                    i, memberId, "name" + i, i % 5 == 0 ? "RETIRED" : "EMPLOYED");
+            if (i % 5 == 0) {
+                shard.update("insert into retired_developer (id, member_id, name) values (?, ?, ?)",
+                        i, memberId, "name" + i);
+            }
+            if (i % 10 == 0) {
+                new JdbcTemplate(shards.get(twoShards.shardOf("archived" + i))).update(
+                        "insert into archived_developer (id, member_id, name, status_code) " +
+                                "values (?, ?, ?, 'RETIRED')", DEVELOPERS + i, "archived" + i, "name" + i);
+            }
+        }
+
+        long moved = new ShardRebalancer(shards, threeShards, 50).rebalance();
+
+        int developers = 0;
+        int retiredDevelopers = 0;
+        int archivedDevelopers = 0;
+        for (int shard = 0; shard < shards.size(); shard++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shards.get(shard));
+            for (String memberId : jdbcTemplate.queryForList("select member_id from developer", String.class)) {
+                assertEquals(shard, threeShards.shardOf(memberId), memberId);
+                developers++;
+            }
+            for (String memberId : jdbcTemplate.queryForList(
+                    "select member_id from retired_developer", String.class)) {
+                assertEquals(shard, threeShards.shardOf(memberId), memberId);
+                retiredDevelopers++;
+            }
+            for (String memberId : jdbcTemplate.queryForList(
+                    "select member_id from archived_developer", String.class)) {
+                assertEquals(shard, threeShards.shardOf(memberId), memberId);
+                archivedDevelopers++;
+            }
+        }
+        assertEquals(DEVELOPERS, developers);
+        assertEquals(DEVELOPERS / 5, retiredDevelopers);
+        assertEquals(DEVELOPERS / 10, archivedDevelopers);
+        assertEquals(expectedMoves(twoShards, threeShards), moved);
+
+        // 다시 실행하면 옮길 row가 없다.
+        assertEquals(0, new ShardRebalancer(shards, threeShards, 50).rebalance());
+    }
+
+    @Test
+    void rebalance_resumesAfterPartialCopy() {
+        List<DataSource> shards = shards(2);
+        ConsistentHashRing ring = new ConsistentHashRing(2, 64);
+        String memberId = memberIdOn(ring, 1);
+        // shard 0에 있던 row를 shard 1에 넣은 뒤 shard 0에서 지우기 전에 멈춘 상태
+        for (DataSource shard : shards) {
+            new JdbcTemplate(shard).update("insert into developer (id, member_id, name, status_code, " +
+                    "developer_level, developer_skill_type, experience_years, age) " +
+                    "values (7, ?, 'name', 'EMPLOYED', 'SENIOR', 'BACK_END', 12, 32)", memberId);
+        }
+
+        assertEquals(1, new ShardRebalancer(shards, ring, 50).rebalance());
+        assertEquals(0, countOn(shards, 0));
+        assertEquals(1, countOn(shards, 1));
+    }
+
+    private static long expectedMoves(ConsistentHashRing before, ConsistentHashRing after) {
+        long moves = 0;
+        for (int i = 1; i <= DEVELOPERS; i++) {
+            if (before.shardOf("member" + i) != after.shardOf("member" + i)) {
+                moves++;
+            }
+        }
+        return moves;
+    }
+
+    private static String memberIdOn(ConsistentHashRing ring, int shard) {
+        for (int i = 0; ; i++) {
+            if (ring.shardOf("member" + i) == shard) {
+                return "member" + i;
+            }
+        }
+    }
+
+    private static int countOn(List<DataSource> shards, int shard) {
+        return new JdbcTemplate(shards.get(shard)).queryForObject("select count(*) from developer", Integer.class);
+    }
+
+    private static List<DataSource> shards(int count) {
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            DataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:rebalance-" + i + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+            Flyway.configure().dataSource(dataSource).load().migrate();
+            shards.add(dataSource);
+        }
+        return shards;
+    }
+}
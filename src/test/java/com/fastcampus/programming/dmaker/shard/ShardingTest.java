@@ -0,0 +1,272 @@
+package com.fastcampus.programming.dmaker.shard;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperChangeDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperChangesDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.idempotency.IdempotencyStore;
+import com.fastcampus.programming.dmaker.outbox.DeveloperOutboxRelay;
+import com.fastcampus.programming.dmaker.repository.IdempotencyKeyRepository;
+import com.fastcampus.programming.dmaker.service.DmakerService;
+import com.fastcampus.programming.dmaker.stats.DeveloperStats;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.programming.dmaker.exception.DMakerErrorCode.NO_DEVELOPER;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// shard 마다 H2 in-memory DB 하나
+@SpringBootTest(properties = {
+        "dmaker.sharding.enabled=true",
+        "dmaker.idempotency.jdbc.enabled=true",
+        "dmaker.sharding.shards[0].url=jdbc:h2:mem:shard-0;DB_CLOSE_DELAY=-1",
+        "dmaker.sharding.shards[0].username=sa",
+        "dmaker.sharding.shards[1].url=jdbc:h2:mem:shard-1;DB_CLOSE_DELAY=-1",
+        "dmaker.sharding.shards[1].username=sa",
+        "dmaker.sharding.shards[2].url=jdbc:h2:mem:shard-2;DB_CLOSE_DELAY=-1",
+        "dmaker.sharding.shards[2].username=sa"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ShardingTest {
+    private static final int SHARDS = 3;
+    private static final int DEVELOPERS = 30;
+
+    @Autowired
+    private DmakerService dmakerService;
+
+    @Autowired
+    private DeveloperShards developerShards;
+
+    @Autowired
+    private DeveloperStats developerStats;
+
+    @Autowired
+    private DeveloperOutboxRelay developerOutboxRelay;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<JdbcTemplate> shards = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() {
+        for (int shard = 0; shard < SHARDS; shard++) {
+            shards.add(new JdbcTemplate(new DriverManagerDataSource(
+                    "jdbc:h2:mem:shard-" + shard + ";DB_CLOSE_DELAY=-1", "sa", "")));
+        }
+        for (int i = 0; i < DEVELOPERS; i++) {
+            dmakerService.createDeveloper(CreateDeveloper.Request.builder()
+                    .developerLevel(SENIOR)
+                    .developerSkillType(BACK_END)
+                    .experienceYears(12)
+                    .memberId("sharded" + i)
+                    .name("sharded_" + i)
+                    .age(32)
+                    .build());
+        }
+    }
+
+    @Test
+    void create_storesOnOwnerShardOnly() {
+        Set<Integer> usedShards = new HashSet<>();
+        for (int i = 0; i < DEVELOPERS; i++) {
+            String memberId = "sharded" + i;
+            int owner = developerShards.shardOf(memberId);
+            for (int shard = 0; shard < SHARDS; shard++) {
+                assertEquals(shard == owner ? 1 : 0, countByMemberId(shard, memberId), memberId);
+            }
+            usedShards.add(owner);
+        }
+        assertEquals(SHARDS, usedShards.size());
+    }
+
+    @Test
+    void ids_doNotOverlapAcrossShards() {
+        Set<Long> ids = new HashSet<>();
+        for (JdbcTemplate shard : shards) {
+            ids.addAll(shard.queryForList("select id from developer", Long.class));
+        }
+        assertEquals(totalCount(), ids.size());
+    }
+
+    @Test
+    void detailEditDelete_routeToOwnerShard() {
+        assertEquals("sharded_1", dmakerService.getDeveloperDetail("sharded1").getName());
+
+        dmakerService.editDeveloper("sharded2", EditDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(15)
+                .build(), null);
+        assertEquals(15, dmakerService.getDeveloperDetail("sharded2").getExperienceYears());
+
+        dmakerService.deleteDeveloper("sharded3");
+        int owner = developerShards.shardOf("sharded3");
+        assertEquals(StatusCode.RETIRED.name(), shards.get(owner).queryForObject(
+                "select status_code from developer where member_id = 'sharded3'", String.class));
+        assertEquals(1, shards.get(owner).queryForObject(
+                "select count(*) from retired_developer where member_id = 'sharded3'", Integer.class));
+    }
+
+    @Test
+    void lists_mergeAllShardsInIdOrder() {
+        List<DeveloperDto> all = dmakerService.getAllEmployedDevelopers();
+        assertIdOrder(all);
+        assertTrue(all.stream().map(DeveloperDto::getMemberId).collect(Collectors.toSet())
+                .containsAll(List.of("sharded0", "sharded1", "sharded29")));
+
+        List<DeveloperDto> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            DeveloperPageDto page = dmakerService.getEmployedDevelopers(cursor, 7);
+            assertTrue(page.getDevelopers().size() <= 7);
+            paged.addAll(page.getDevelopers());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertIdOrder(paged);
+        assertEquals(all.stream().map(DeveloperDto::getId).collect(Collectors.toList()),
+                paged.stream().map(DeveloperDto::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void changes_mergeAllShards() {
+        developerOutboxRelay.relay();
+
+        // 모든 shard의 이벤트가 한 번씩
+        Set<String> seen = new HashSet<>();
+        Set<String> created = new HashSet<>();
+        DeveloperChangesDto page = dmakerService.getDeveloperChanges(null, 7);
+        while (!page.getChanges().isEmpty()) {
+            assertTrue(page.getChanges().size() <= 7);
+            for (DeveloperChangeDto change : page.getChanges()) {
+                assertTrue(seen.add(change.getShard() + ":" + change.getSequence()));
+                if (change.getEventType() == DeveloperEventType.CREATED) {
+                    created.add(change.getMemberId());
+                }
+            }
+            page = dmakerService.getDeveloperChanges(page.getNextCursor(), 7);
+        }
+
+        for (int i = 0; i < DEVELOPERS; i++) {
+            assertTrue(created.contains("sharded" + i), "sharded" + i);
+        }
+    }
+
+    @Test
+    void stats_sumAllShards() {
+        developerStats.reconcile();
+
+        assertEquals(totalCount(), developerStats.count(null, null, null));
+    }
+
+    // key row는 developer와 같은 shard에 있고, 메모리가 비어도 그 shard에서 찾는다.
+    @Test
+    void idempotencyKey_staysOnOwnerShard() {
+        String memberId = "shardedIdempotent";
+        for (int i = 0; developerShards.shardOf(memberId) == ShardContext.HOME_SHARD; i++) {
+            memberId = "shardedIdempotent" + i;
+        }
+        CreateDeveloper.Request request = CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("sharded_idempotent")
+                .age(32)
+                .build();
+        idempotencyStore.execute("sharded-key", memberId, request, CreateDeveloper.Response.class,
+                () -> dmakerService.createDeveloper(request));
+
+        int owner = developerShards.shardOf(memberId);
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertEquals(shard == owner ? 1 : 0, shards.get(shard).queryForObject(
+                    "select count(*) from idempotency_key where idempotency_key = 'sharded-key'", Integer.class));
+        }
+
+        IdempotencyStore restarted = new IdempotencyStore(Caffeine.newBuilder().build(), idempotencyKeyRepository,
+                new TransactionTemplate(transactionManager), developerShards, objectMapper, Duration.ofHours(1));
+        CreateDeveloper.Response replayed = restarted.execute("sharded-key", memberId, request,
+                CreateDeveloper.Response.class, () -> {
+                    throw new AssertionError("retry must not create the developer again");
+                });
+        assertEquals(memberId, replayed.getMemberId());
+    }
+
+    @Test
+    void expiredIdempotencyKeys_areDeletedOnEveryShard() {
+        for (int shard = 0; shard < SHARDS; shard++) {
+            shards.get(shard).update("insert into idempotency_key " +
+                    "(idempotency_key, request_hash, response, created_at, expires_at) " +
+                    "values (?, 'hash', '{}', dateadd('HOUR', -2, now()), dateadd('HOUR', -1, now()))",
+                    "expired-" + shard);
+        }
+
+        idempotencyStore.deleteExpired();
+
+        for (JdbcTemplate shard : shards) {
+            assertEquals(0, shard.queryForObject(
+                    "select count(*) from idempotency_key where idempotency_key like 'expired-%'", Integer.class));
+        }
+    }
+
+    @Test
+    void unknownMember_isNotFound() {
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> dmakerService.getDeveloperDetail("shardedMissing"));
+
+        assertEquals(NO_DEVELOPER, exception.getDMakerErrorCode());
+    }
+
+    private static void assertIdOrder(List<DeveloperDto> developers) {
+        for (int i = 1; i < developers.size(); i++) {
+            assertTrue(developers.get(i - 1).getId() < developers.get(i).getId());
+        }
+    }
+
+    private int countByMemberId(int shard, String memberId) {
+        return shards.get(shard).queryForObject(
+                "select count(*) from developer where member_id = ?", Integer.class, memberId);
+    }
+
+    private long totalCount() {
+        long count = 0;
+        for (JdbcTemplate shard : shards) {
+            count += shard.queryForObject("select count(*) from developer", Long.class);
+        }
+        return count;
+    }
+}
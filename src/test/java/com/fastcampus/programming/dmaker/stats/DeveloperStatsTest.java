@@ -0,0 +1,192 @@
+package com.fastcampus.programming.dmaker.stats;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperCountDto;
+import com.fastcampus.programming.dmaker.repository.ArchivedDeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.shard.DeveloperShards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.fastcampus.programming.dmaker.code.StatusCode.EMPLOYED;
+import static com.fastcampus.programming.dmaker.code.StatusCode.RETIRED;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.JUNIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.fastcampus.programming.dmaker.type.DeveloperSkillType.FRONT_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperStatsTest {
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @Mock
+    private ArchivedDeveloperRepository archivedDeveloperRepository;
+
+    private DeveloperStats developerStats;
+
+    @BeforeEach
+    void setUp() {
+        developerStats = new DeveloperStats(developerRepository, archivedDeveloperRepository,
+                DeveloperShards.single());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void seed_countsByEachDimension() {
+        given(developerRepository.countDevelopersGroupByLevelAndSkillTypeAndStatusCode())
+                .willReturn(Arrays.asList(
+                        new DeveloperCountDto(SENIOR, BACK_END, EMPLOYED, 3L),
+                        new DeveloperCountDto(SENIOR, FRONT_END, EMPLOYED, 2L),
+                        new DeveloperCountDto(JUNIOR, BACK_END, RETIRED, 1L),
+                        new DeveloperCountDto(null, BACK_END, EMPLOYED, 7L)
+                ));
+
+        developerStats.seed();
+
+        assertEquals(3, developerStats.count(SENIOR, BACK_END, EMPLOYED));
+        assertEquals(5, developerStats.count(SENIOR, null, null));
+        assertEquals(4, developerStats.count(null, BACK_END, null));
+        assertEquals(1, developerStats.count(null, null, RETIRED));
+        // level이 없는 row는 matrix에 넣지 않는다.
+        assertEquals(6, developerStats.count(null, null, null));
+        assertEquals(24, developerStats.getCounts().size());
+    }
+
+    @Test
+    void seed_includesArchivedDevelopers() {
+        given(developerRepository.countDevelopersGroupByLevelAndSkillTypeAndStatusCode())
+                .willReturn(Collections.singletonList(new DeveloperCountDto(JUNIOR, BACK_END, RETIRED, 1L)));
+        given(archivedDeveloperRepository.countArchivedDevelopersGroupByLevelAndSkillTypeAndStatusCode())
+                .willReturn(Collections.singletonList(new DeveloperCountDto(JUNIOR, BACK_END, RETIRED, 4L)));
+
+        developerStats.seed();
+
+        assertEquals(5, developerStats.count(JUNIOR, BACK_END, RETIRED));
+    }
+
+    @Test
+    void addAfterCommit_appliesOnlyOnCommit() {
+        given(developerRepository.countDevelopersGroupByLevelAndSkillTypeAndStatusCode())
+                .willReturn(Collections.emptyList());
+        developerStats.seed();
+
+        // commit
+        TransactionSynchronizationManager.initSynchronization();
+        developerStats.addAfterCommit(SENIOR, BACK_END, EMPLOYED, 1);
+        assertEquals(0, developerStats.count(SENIOR, BACK_END, EMPLOYED));
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(1, developerStats.count(SENIOR, BACK_END, EMPLOYED));
+
+        // rollback
+        TransactionSynchronizationManager.initSynchronization();
+        developerStats.addAfterCommit(SENIOR, BACK_END, EMPLOYED, 1);
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(1, developerStats.count(SENIOR, BACK_END, EMPLOYED));
+
+        // 트랜잭션 밖
+        developerStats.addAfterCommit(SENIOR, BACK_END, StatusCode.RETIRED, 2);
+        assertEquals(2, developerStats.count(SENIOR, BACK_END, RETIRED));
+    }
+
+    @Test
+    void reconcile_replacesDriftedCounts() {
+        given(developerRepository.countDevelopersGroupByLevelAndSkillTypeAndStatusCode())
+                .willReturn(Collections.singletonList(new DeveloperCountDto(SENIOR, BACK_END, EMPLOYED, 3L)));
+        developerStats.seed();
+        developerStats.addAfterCommit(JUNIOR, FRONT_END, EMPLOYED, 5);
+
+        developerStats.reconcile();
+
+        assertEquals(3, developerStats.count(SENIOR, BACK_END, EMPLOYED));
+        assertEquals(0, developerStats.count(JUNIOR, FRONT_END, EMPLOYED));
+    }
+
+    @Test
+    void reconcile_doesNotWaitForCommitInProgress() throws Exception {
+        given(developerRepository.countDevelopersGroupByLevelAndSkillTypeAndStatusCode())
+                .willReturn(Collections.emptyList(),
+                        Collections.singletonList(new DeveloperCountDto(SENIOR, BACK_END, EMPLOYED, 1L)));
+        developerStats.seed();
+
+        // DB 커밋은 끝났지만 afterCommit 증감은 아직인 상태
+        TransactionSynchronizationManager.initSynchronization();
+        developerStats.addAfterCommit(SENIOR, BACK_END, EMPLOYED, 1);
+        developerStats.addAfterCommit(JUNIOR, FRONT_END, EMPLOYED, 5);
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        CompletableFuture.runAsync(developerStats::reconcile).get(5, TimeUnit.SECONDS);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // 커밋 중인 칸은 GROUP BY 결과로 덮어쓰지 않으므로 증감이 한 번 더 더해지지 않는다.
+        assertEquals(1, developerStats.count(SENIOR, BACK_END, EMPLOYED));
+        assertEquals(5, developerStats.count(JUNIOR, FRONT_END, EMPLOYED));
+    }
+
+    @Test
+    void reconcile_keepsCountsCommittedDuringSnapshot() {
+        given(developerRepository.countDevelopersGroupByLevelAndSkillTypeAndStatusCode())
+                .willReturn(Collections.emptyList())
+                .willAnswer(invocation -> {
+                    // GROUP BY 하는 사이 커밋된 변경 (결과에 들어갔는지 알 수 없다.)
+                    developerStats.addAfterCommit(SENIOR, BACK_END, EMPLOYED, 1);
+                    return Collections.singletonList(new DeveloperCountDto(SENIOR, BACK_END, EMPLOYED, 1L));
+                })
+                .willReturn(Collections.singletonList(new DeveloperCountDto(SENIOR, BACK_END, EMPLOYED, 2L)));
+        developerStats.seed();
+        developerStats.addAfterCommit(JUNIOR, FRONT_END, EMPLOYED, 5);
+
+        developerStats.reconcile();
+        assertEquals(1, developerStats.count(SENIOR, BACK_END, EMPLOYED));
+        assertEquals(0, developerStats.count(JUNIOR, FRONT_END, EMPLOYED));
+
+        // 다음 reconcile 때 맞춘다.
+        developerStats.reconcile();
+        assertEquals(2, developerStats.count(SENIOR, BACK_END, EMPLOYED));
+    }
+
+    @Test
+    void getCounts_reusesListUntilCountsChange() {
+        given(developerRepository.countDevelopersGroupByLevelAndSkillTypeAndStatusCode())
+                .willReturn(Collections.emptyList());
+        developerStats.seed();
+
+        List<DeveloperCountDto> counts = developerStats.getCounts();
+        assertSame(counts, developerStats.getCounts());
+
+        developerStats.addAfterCommit(SENIOR, BACK_END, EMPLOYED, 1);
+        List<DeveloperCountDto> changed = developerStats.getCounts();
+        assertNotSame(counts, changed);
+        assertEquals(1, changed.stream()
+                .filter(count -> count.getDeveloperLevel() == SENIOR && count.getDeveloperSkillType() == BACK_END
+                        && count.getStatusCode() == EMPLOYED)
+                .mapToLong(DeveloperCountDto::getCount)
+                .sum());
+    }
+}